@@ -0,0 +1,39 @@
+package com.referralnode.benchmarks;
+
+import java.io.File;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Entry point of the benchmarks jar: the JMH command line, except that results are
+ * written as JSON to {@code results/jmh-<timestamp>.json} unless {@code -rf}/{@code -rff}
+ * say otherwise. Compare two result files with {@link ResultDiff}.
+ */
+public final class BenchmarkMain {
+
+    private static final DateTimeFormatter TIMESTAMP = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
+    private BenchmarkMain() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        List<String> options = new ArrayList<>(Arrays.asList(args));
+        boolean listing = options.contains("-l") || options.contains("-lp") || options.contains("-h");
+        if (!listing) {
+            if (!options.contains("-rf")) {
+                options.add("-rf");
+                options.add("json");
+            }
+            if (!options.contains("-rff")) {
+                File results = new File("results", "jmh-" + LocalDateTime.now().format(TIMESTAMP) + ".json");
+                results.getParentFile().mkdirs();
+                options.add("-rff");
+                options.add(results.getPath());
+            }
+        }
+        org.openjdk.jmh.Main.main(options.toArray(new String[0]));
+    }
+}
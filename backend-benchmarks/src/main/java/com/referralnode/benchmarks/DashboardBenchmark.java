@@ -0,0 +1,130 @@
+package com.referralnode.benchmarks;
+
+import com.referralnode.dto.DashboardStatsResponse;
+import com.referralnode.dto.TimeSeriesResponse;
+import com.referralnode.repository.JobRepository;
+import com.referralnode.repository.projection.JobStatsView;
+import com.referralnode.service.DashboardRollup;
+import com.referralnode.service.DashboardService;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Proxy;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Dashboard aggregations over 1k to 1M synthetic jobs.
+ * <p>
+ * {@code rebuild} folds every row into a fresh {@link DashboardRollup}, as startup and the
+ * periodic reconcile do; the repository is a stub returning preloaded stats views, so
+ * only the aggregation is measured. The other benchmarks read the built rollup the way
+ * the dashboard endpoints do.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@State(Scope.Benchmark)
+public class DashboardBenchmark {
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    private int jobs;
+
+    private JobRepository repository;
+    private DashboardService dashboardService;
+
+    private record StatsView(UUID id, String title, String company, String location, LocalDateTime createdAt)
+            implements JobStatsView {
+
+        @Override
+        public UUID getId() {
+            return id;
+        }
+
+        @Override
+        public String getTitle() {
+            return title;
+        }
+
+        @Override
+        public String getCompany() {
+            return company;
+        }
+
+        @Override
+        public String getLocation() {
+            return location;
+        }
+
+        @Override
+        public LocalDateTime getCreatedAt() {
+            return createdAt;
+        }
+    }
+
+    @Setup
+    public void setUp() {
+        List<JobStatsView> views = SyntheticJobs.jobs(jobs, 0, 7).stream()
+                .<JobStatsView>map(job -> new StatsView(job.getId(), job.getTitle(), job.getCompany(),
+                        job.getLocation(), job.getCreatedAt()))
+                .toList();
+        repository = (JobRepository) Proxy.newProxyInstance(
+                JobRepository.class.getClassLoader(),
+                new Class<?>[]{JobRepository.class},
+                (proxy, method, args) -> {
+                    if (method.getName().equals("findAllStatsViews")) {
+                        return views;
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                });
+
+        DashboardRollup rollup = newRollup();
+        rollup.rebuild();
+        dashboardService = new DashboardService(rollup);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public DashboardRollup rebuild() {
+        DashboardRollup rollup = newRollup();
+        rollup.rebuild();
+        return rollup;
+    }
+
+    @Benchmark
+    public DashboardStatsResponse stats() {
+        return dashboardService.getDashboardStats();
+    }
+
+    @Benchmark
+    public TimeSeriesResponse dailySeries() {
+        return dashboardService.getTimeSeries("DAY", SyntheticJobs.NOW.minusDays(90), SyntheticJobs.NOW, "NONE", 10);
+    }
+
+    @Benchmark
+    public TimeSeriesResponse dailySeriesByCompany() {
+        return dashboardService.getTimeSeries("DAY", SyntheticJobs.NOW.minusDays(90), SyntheticJobs.NOW, "COMPANY", 10);
+    }
+
+    @Benchmark
+    public TimeSeriesResponse hourlySeriesByLocation() {
+        return dashboardService.getTimeSeries("HOUR", SyntheticJobs.NOW.minusDays(7), SyntheticJobs.NOW, "LOCATION", 10);
+    }
+
+    private DashboardRollup newRollup() {
+        DashboardRollup rollup = new DashboardRollup(repository);
+        try {
+            // Normally injected from dashboard.rollup.recent-capacity
+            Field recentCapacity = DashboardRollup.class.getDeclaredField("recentCapacity");
+            recentCapacity.setAccessible(true);
+            recentCapacity.setInt(rollup, 20);
+        } catch (ReflectiveOperationException ex) {
+            throw new IllegalStateException(ex);
+        }
+        return rollup;
+    }
+}
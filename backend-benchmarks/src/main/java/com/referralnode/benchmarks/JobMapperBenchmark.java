@@ -0,0 +1,62 @@
+package com.referralnode.benchmarks;
+
+import com.referralnode.dto.JobRequest;
+import com.referralnode.dto.JobResponse;
+import com.referralnode.entity.Job;
+import com.referralnode.mapper.JobMapper;
+import com.referralnode.util.RichTextUtil;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link JobMapper} conversions for one job. {@code toEntity} includes description
+ * sanitization, the listing preview and the content hash; {@code toResponse} is the
+ * copy done for every job in a response.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JobMapperBenchmark {
+
+    // Rotate through distinct inputs so no single object stays hot in cache
+    private static final int POOL = 256;
+
+    @Param({"1", "16", "256"})
+    private int descriptionKb;
+
+    private JobMapper jobMapper;
+    private List<JobRequest> requests;
+    private List<Job> jobs;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        jobMapper = new JobMapper(new RichTextUtil());
+        requests = SyntheticJobs.requests(POOL, descriptionKb * 1024, 11);
+        jobs = SyntheticJobs.jobs(POOL, descriptionKb * 1024, 11);
+    }
+
+    @Benchmark
+    public Job toEntity() {
+        JobRequest request = requests.get(next++ & (POOL - 1));
+        // A fresh String per call, as a deserialized request body would be
+        request.setDescription(new String(request.getDescription()));
+        return jobMapper.toEntity(request);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public JobResponse toResponse() {
+        return jobMapper.toResponse(jobs.get(next++ & (POOL - 1)));
+    }
+
+    @Benchmark
+    public String contentHash() {
+        return jobMapper.contentHash(jobs.get(next++ & (POOL - 1)));
+    }
+}
@@ -0,0 +1,83 @@
+package com.referralnode.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.referralnode.dto.JobFragment;
+import com.referralnode.dto.JobResponse;
+import com.referralnode.dto.PageResponse;
+import com.referralnode.mapper.JobMapper;
+import com.referralnode.util.RichTextUtil;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Jackson serialization of a {@code PageResponse<JobResponse>}, the body of every
+ * listing request, with the ObjectMapper configured as Spring Boot does by default.
+ * {@code serializeFragments} writes the same page from cached per-job JSON, as the
+ * listing endpoints do once JobFragmentCache is warm.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PageSerializationBenchmark {
+
+    @Param({"10", "100", "1000"})
+    private int pageSize;
+
+    @Param({"2"})
+    private int descriptionKb;
+
+    private ObjectWriter writer;
+    private PageResponse<JobResponse> page;
+    private PageResponse<JobFragment> fragmentPage;
+
+    @Setup
+    public void setUp() throws Exception {
+        ObjectMapper mapper = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+        writer = mapper.writer();
+        JobMapper jobMapper = new JobMapper(new RichTextUtil());
+        List<JobResponse> content = SyntheticJobs.jobs(pageSize, descriptionKb * 1024, 5).stream()
+                .map(jobMapper::toResponse)
+                .toList();
+        page = page(content);
+
+        List<JobFragment> fragments = new ArrayList<>();
+        for (JobResponse job : content) {
+            fragments.add(new JobFragment(mapper.writeValueAsString(job)));
+        }
+        fragmentPage = page(fragments);
+    }
+
+    @Benchmark
+    public byte[] serialize() throws Exception {
+        return writer.writeValueAsBytes(page);
+    }
+
+    @Benchmark
+    public byte[] serializeFragments() throws Exception {
+        return writer.writeValueAsBytes(fragmentPage);
+    }
+
+    private <T> PageResponse<T> page(List<T> content) {
+        return PageResponse.<T>builder()
+                .content(content)
+                .pageNumber(0)
+                .pageSize(pageSize)
+                .totalElements(100_000)
+                .totalPages(100_000 / pageSize)
+                .first(true)
+                .last(false)
+                .totalMode("exact")
+                .build();
+    }
+}
@@ -0,0 +1,100 @@
+package com.referralnode.benchmarks;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.*;
+
+/**
+ * Compares two JMH JSON result files, typically from consecutive releases:
+ * <pre>
+ *   java -cp target/benchmarks.jar com.referralnode.benchmarks.ResultDiff baseline.json current.json [threshold%]
+ * </pre>
+ * A benchmark counts as regressed when it is worse by more than the threshold (default 10%)
+ * and the difference also exceeds the two runs' combined error margins. Exits with status 1
+ * if anything regressed, so it can gate a release build.
+ */
+public final class ResultDiff {
+
+    private ResultDiff() {
+    }
+
+    private record Result(String mode, double score, double error) {
+
+        // Throughput modes report ops/time; every other mode reports time/op
+        boolean higherIsBetter() {
+            return mode.equals("thrpt");
+        }
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("Usage: ResultDiff <baseline.json> <current.json> [threshold-percent]");
+            System.exit(2);
+        }
+        double threshold = args.length > 2 ? Double.parseDouble(args[2]) : 10.0;
+        Map<String, Result> baseline = read(new File(args[0]));
+        Map<String, Result> current = read(new File(args[1]));
+
+        int regressions = 0;
+        System.out.printf("%-90s %14s %14s %9s%n", "Benchmark", "Baseline", "Current", "Change");
+        for (Map.Entry<String, Result> entry : current.entrySet()) {
+            Result now = entry.getValue();
+            Result before = baseline.get(entry.getKey());
+            if (before == null) {
+                System.out.printf("%-90s %14s %14.3f %9s%n", entry.getKey(), "-", now.score(), "new");
+                continue;
+            }
+
+            double change = (now.score() - before.score()) / before.score() * 100.0;
+            double worse = before.higherIsBetter() ? -change : change;
+            boolean beyondError = Math.abs(now.score() - before.score()) > errorOf(before) + errorOf(now);
+            boolean regressed = worse > threshold && beyondError;
+            if (regressed) {
+                regressions++;
+            }
+            System.out.printf("%-90s %14.3f %14.3f %+8.1f%%%s%n", entry.getKey(), before.score(), now.score(),
+                    change, regressed ? "  REGRESSED" : "");
+        }
+        for (String missing : baseline.keySet()) {
+            if (!current.containsKey(missing)) {
+                System.out.printf("%-90s %14.3f %14s %9s%n", missing, baseline.get(missing).score(), "-", "removed");
+            }
+        }
+
+        System.out.printf("%n%d regression(s) beyond %.1f%%%n", regressions, threshold);
+        if (regressions > 0) {
+            System.exit(1);
+        }
+    }
+
+    // JMH reports NaN as the error of single-iteration runs
+    private static double errorOf(Result result) {
+        return Double.isNaN(result.error()) ? 0.0 : result.error();
+    }
+
+    // Keyed by benchmark, mode and parameters, e.g. "...DashboardBenchmark.stats [avgt] jobs=1000"
+    private static Map<String, Result> read(File file) throws IOException {
+        Map<String, Result> results = new TreeMap<>();
+        for (JsonNode run : new ObjectMapper().readTree(file)) {
+            StringBuilder key = new StringBuilder(run.path("benchmark").asText())
+                    .append(" [").append(run.path("mode").asText()).append(']');
+            JsonNode params = run.path("params");
+            List<String> names = new ArrayList<>();
+            params.fieldNames().forEachRemaining(names::add);
+            Collections.sort(names);
+            for (String name : names) {
+                key.append(' ').append(name).append('=').append(params.path(name).asText());
+            }
+
+            JsonNode metric = run.path("primaryMetric");
+            results.put(key.toString(), new Result(
+                    run.path("mode").asText(),
+                    metric.path("score").asDouble(),
+                    metric.path("scoreError").asDouble(Double.NaN)));
+        }
+        return results;
+    }
+}
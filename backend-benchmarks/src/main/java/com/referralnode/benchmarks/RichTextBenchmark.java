@@ -0,0 +1,98 @@
+package com.referralnode.benchmarks;
+
+import com.referralnode.util.RichTextUtil;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Single-pass {@link RichTextUtil} against the legacy regex chain.
+ * <p>
+ * The "createRequest" benchmarks replay what one POST /api/admin/jobs does to a
+ * description: validator (isEmpty + isValidRichText), mapper (sanitizeRichText)
+ * and indexing/preview (htmlToPlainText + getPreview). Each invocation uses a
+ * fresh String so memoization only helps within one request, as in production.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RichTextBenchmark {
+
+    @Param({"1", "16", "256", "1024"})
+    private int sizeKb;
+
+    private String html;
+    private RichTextUtil richTextUtil;
+    private LegacyRichTextUtil legacy;
+
+    @Setup
+    public void setUp() {
+        html = SyntheticHtml.ofSize(sizeKb * 1024, 42);
+        richTextUtil = new RichTextUtil();
+        legacy = new LegacyRichTextUtil();
+    }
+
+    @Benchmark
+    public void createRequestLegacy(Blackhole bh) {
+        String description = new String(html);
+        bh.consume(legacy.isEmpty(description));
+        bh.consume(legacy.isValidRichText(description));
+        String sanitized = legacy.sanitizeRichText(description);
+        bh.consume(legacy.htmlToPlainText(sanitized));
+        bh.consume(legacy.getPreview(sanitized, 200));
+    }
+
+    @Benchmark
+    public void createRequestSinglePass(Blackhole bh) {
+        String description = new String(html);
+        bh.consume(richTextUtil.isEmpty(description));
+        bh.consume(richTextUtil.isValidRichText(description));
+        String sanitized = richTextUtil.sanitizeRichText(description);
+        bh.consume(richTextUtil.htmlToPlainText(sanitized));
+        bh.consume(richTextUtil.getPreview(sanitized, 200));
+    }
+
+    @Benchmark
+    public String plainTextLegacy() {
+        return legacy.htmlToPlainText(new String(html));
+    }
+
+    @Benchmark
+    public String plainTextSinglePass() {
+        return richTextUtil.htmlToPlainText(new String(html));
+    }
+
+    @Benchmark
+    public String previewLegacy() {
+        return legacy.getPreview(new String(html), 200);
+    }
+
+    @Benchmark
+    public String previewSinglePass() {
+        return richTextUtil.getPreview(new String(html), 200);
+    }
+
+    @Benchmark
+    public String sanitizeLegacy() {
+        return legacy.sanitizeRichText(new String(html));
+    }
+
+    @Benchmark
+    public String sanitizeSinglePass() {
+        return richTextUtil.sanitizeRichText(new String(html));
+    }
+
+    @Benchmark
+    public boolean validateLegacy() {
+        return legacy.isValidRichText(new String(html));
+    }
+
+    @Benchmark
+    public boolean validateSinglePass() {
+        return richTextUtil.isValidRichText(new String(html));
+    }
+}
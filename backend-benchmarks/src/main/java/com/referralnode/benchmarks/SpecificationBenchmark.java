@@ -0,0 +1,84 @@
+package com.referralnode.benchmarks;
+
+import com.referralnode.entity.Job;
+import com.referralnode.search.TagMode;
+import com.referralnode.specification.JobSpecification;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.hibernate.SessionFactory;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Criteria predicate construction for {@link JobSpecification#filterJobs}, which runs on
+ * every filtered listing before any SQL is generated.
+ * <p>
+ * Hibernate is bootstrapped over the Job entity without a database: JDBC metadata access
+ * is turned off and nothing is executed, so no connection is ever opened.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SpecificationBenchmark {
+
+    public enum Filters {
+        NONE,
+        COMPANY,
+        ALL
+    }
+
+    @Param({"NONE", "COMPANY", "ALL"})
+    private Filters filters;
+
+    private StandardServiceRegistry registry;
+    private SessionFactory sessionFactory;
+    private CriteriaBuilder criteriaBuilder;
+
+    @Setup
+    public void setUp() {
+        registry = new StandardServiceRegistryBuilder()
+                .applySetting(AvailableSettings.DIALECT, PostgreSQLDialect.class.getName())
+                .applySetting("hibernate.temp.use_jdbc_metadata_defaults", false)
+                .applySetting("hibernate.boot.allow_jdbc_metadata_access", false)
+                .applySetting(AvailableSettings.HBM2DDL_AUTO, "none")
+                .build();
+        sessionFactory = new MetadataSources(registry)
+                .addAnnotatedClass(Job.class)
+                .buildMetadata()
+                .buildSessionFactory();
+        criteriaBuilder = sessionFactory.getCriteriaBuilder();
+    }
+
+    @TearDown
+    public void tearDown() {
+        sessionFactory.close();
+        StandardServiceRegistryBuilder.destroy(registry);
+    }
+
+    @Benchmark
+    public Predicate filterJobs() {
+        // The specification is built per request from its query parameters
+        Specification<Job> spec = switch (filters) {
+            case NONE -> JobSpecification.filterJobs(null, null, null, null, TagMode.ANY);
+            case COMPANY -> JobSpecification.filterJobs("Company 12", null, null, null, TagMode.ANY);
+            case ALL -> JobSpecification.filterJobs("Company 12", "City 3", "Engineer",
+                    List.of("java", "spring", "remote"), TagMode.ALL);
+        };
+        CriteriaQuery<Job> query = criteriaBuilder.createQuery(Job.class);
+        Root<Job> root = query.from(Job.class);
+        return spec.toPredicate(root, query, criteriaBuilder);
+    }
+}
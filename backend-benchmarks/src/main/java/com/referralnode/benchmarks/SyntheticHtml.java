@@ -0,0 +1,31 @@
+package com.referralnode.benchmarks;
+
+import java.util.Random;
+
+/**
+ * Deterministic Quill-style HTML of a requested size
+ */
+final class SyntheticHtml {
+
+    private static final String[] BLOCKS = {
+            "<h2>About the Role</h2>",
+            "<p>We are seeking an <strong>experienced</strong> backend engineer to join our team &amp; grow with us.</p>",
+            "<ul><li>5+ years of Java experience</li><li>Spring Boot expertise</li><li>PostgreSQL &lt;3</li></ul>",
+            "<p>Read more on <a href=\"https://example.com/careers\" target=\"_blank\">our careers page</a>.</p>",
+            "<blockquote>Ship small, ship often.</blockquote>",
+            "<pre><code>SELECT * FROM jobs WHERE company = 'TechCorp';</code></pre>",
+            "<p>Benefits:&nbsp;health, remote work, <em>learning budget</em>.</p>",
+    };
+
+    private SyntheticHtml() {
+    }
+
+    static String ofSize(int bytes, long seed) {
+        Random random = new Random(seed);
+        StringBuilder html = new StringBuilder(bytes + 256);
+        while (html.length() < bytes) {
+            html.append(BLOCKS[random.nextInt(BLOCKS.length)]).append('\n');
+        }
+        return html.toString();
+    }
+}
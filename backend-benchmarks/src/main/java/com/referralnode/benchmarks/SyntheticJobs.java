@@ -0,0 +1,110 @@
+package com.referralnode.benchmarks;
+
+import com.referralnode.dto.JobRequest;
+import com.referralnode.entity.Job;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+/**
+ * Deterministic job postings with a realistic spread of companies, locations and dates.
+ * Company and location popularity is skewed so top-N rankings have a clear head.
+ */
+final class SyntheticJobs {
+
+    // Relative to the current hour so the dashboard's "today" and "this month" counters are populated
+    static final LocalDateTime NOW = LocalDateTime.now().truncatedTo(ChronoUnit.HOURS);
+
+    private static final int COMPANIES = 2_000;
+    private static final int LOCATIONS = 300;
+    private static final int DAYS = 730;
+
+    private static final String[] TITLES = {
+            "Backend Engineer", "Senior Java Developer", "Frontend Engineer", "Data Engineer",
+            "Site Reliability Engineer", "Engineering Manager", "Full Stack Developer", "Product Designer"
+    };
+
+    private static final String[] TAGS = {
+            "java", "spring", "postgres", "react", "typescript", "kubernetes", "aws", "remote",
+            "python", "go", "kafka", "graphql"
+    };
+
+    private SyntheticJobs() {
+    }
+
+    static List<JobRequest> requests(int count, int descriptionBytes, long seed) {
+        Random random = new Random(seed);
+        String description = SyntheticHtml.ofSize(descriptionBytes, seed);
+        List<JobRequest> requests = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            requests.add(JobRequest.builder()
+                    .title(TITLES[random.nextInt(TITLES.length)])
+                    .company(company(random))
+                    .location(location(random))
+                    .description(description)
+                    .salaryRange("$" + (80 + random.nextInt(120)) + "k")
+                    .postedAt(createdAt(random))
+                    .sourceUrl("https://jobs.example.com/" + i)
+                    .tags(tags(random))
+                    .build());
+        }
+        return requests;
+    }
+
+    /**
+     * Jobs as read from the database; descriptions are omitted when {@code descriptionBytes} is 0
+     */
+    static List<Job> jobs(int count, int descriptionBytes, long seed) {
+        Random random = new Random(seed);
+        String description = descriptionBytes == 0 ? null : SyntheticHtml.ofSize(descriptionBytes, seed);
+        List<Job> jobs = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            LocalDateTime createdAt = createdAt(random);
+            jobs.add(Job.builder()
+                    .id(new UUID(seed, i))
+                    .title(TITLES[random.nextInt(TITLES.length)])
+                    .company(company(random))
+                    .location(location(random))
+                    .description(description)
+                    .salaryRange("$" + (80 + random.nextInt(120)) + "k")
+                    .postedAt(createdAt)
+                    .sourceUrl("https://jobs.example.com/" + i)
+                    .tags(tags(random))
+                    .createdAt(createdAt)
+                    .updatedAt(createdAt)
+                    .build());
+        }
+        return jobs;
+    }
+
+    // Squaring a uniform value skews towards low indexes: a few large employers, a long tail
+    private static String company(Random random) {
+        double u = random.nextDouble();
+        return "Company " + (int) (u * u * COMPANIES);
+    }
+
+    private static String location(Random random) {
+        double u = random.nextDouble();
+        return "City " + (int) (u * u * LOCATIONS);
+    }
+
+    private static LocalDateTime createdAt(Random random) {
+        return NOW.minusMinutes(random.nextInt(DAYS * 24 * 60));
+    }
+
+    private static List<String> tags(Random random) {
+        int count = 1 + random.nextInt(4);
+        List<String> tags = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            String tag = TAGS[random.nextInt(TAGS.length)];
+            if (!tags.contains(tag)) {
+                tags.add(tag);
+            }
+        }
+        return tags;
+    }
+}
@@ -0,0 +1,158 @@
+package com.referralnode.benchmarks;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.referralnode.dto.DashboardStatsResponse;
+import com.referralnode.dto.JobResponse;
+import com.referralnode.dto.PageResponse;
+import com.referralnode.entity.Job;
+import com.referralnode.mapper.JobMapper;
+import com.referralnode.util.RichTextUtil;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Response bodies in each wire format the API negotiates (JSON, Smile, CBOR): serialization
+ * time of a listing page, a job detail and the dashboard stats, and the page again with the
+ * gzip step Tomcat adds when compression is on. Payload sizes, raw and gzipped, are printed
+ * once per trial, since JMH only reports times.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class WireFormatBenchmark {
+
+    @Param({"json", "smile", "cbor"})
+    private String format;
+
+    @Param({"10", "100"})
+    private int pageSize;
+
+    @Param({"2"})
+    private int descriptionKb;
+
+    private ObjectWriter writer;
+    private PageResponse<JobResponse> page;
+    private JobResponse job;
+    private DashboardStatsResponse dashboard;
+
+    @Setup
+    public void setUp() throws IOException {
+        JsonFactory factory = switch (format) {
+            case "json" -> new JsonFactory();
+            case "smile" -> new SmileFactory();
+            case "cbor" -> new CBORFactory();
+            default -> throw new IllegalArgumentException("Unknown format " + format);
+        };
+        // Boot's defaults, as WireFormatConfig builds the converters
+        writer = Jackson2ObjectMapperBuilder.json()
+                .factory(factory)
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .postConfigurer(mapper -> mapper.configOverride(UUID.class)
+                        .setFormat(JsonFormat.Value.forShape(JsonFormat.Shape.STRING)))
+                .build()
+                .writer();
+
+        JobMapper jobMapper = new JobMapper(new RichTextUtil());
+        List<Job> jobs = SyntheticJobs.jobs(pageSize, descriptionKb * 1024, 5);
+        List<JobResponse> content = jobs.stream()
+                .map(jobMapper::toResponse)
+                .toList();
+        page = PageResponse.<JobResponse>builder()
+                .content(content)
+                .pageNumber(0)
+                .pageSize(pageSize)
+                .totalElements(100_000)
+                .totalPages(100_000 / pageSize)
+                .first(true)
+                .last(false)
+                .totalMode("exact")
+                .build();
+        job = content.get(0);
+        dashboard = dashboard(jobs);
+
+        System.out.printf("%n%s, %d jobs/page: page %,d B (gzip %,d B), job %,d B (gzip %,d B), dashboard %,d B (gzip %,d B)%n",
+                format, pageSize,
+                page().length, pageGzip().length,
+                job().length, gzip(job()).length,
+                dashboard().length, gzip(dashboard()).length);
+    }
+
+    @Benchmark
+    public byte[] page() throws IOException {
+        return writer.writeValueAsBytes(page);
+    }
+
+    @Benchmark
+    public byte[] pageGzip() throws IOException {
+        return gzip(writer.writeValueAsBytes(page));
+    }
+
+    @Benchmark
+    public byte[] job() throws IOException {
+        return writer.writeValueAsBytes(job);
+    }
+
+    @Benchmark
+    public byte[] dashboard() throws IOException {
+        return writer.writeValueAsBytes(dashboard);
+    }
+
+    // Tomcat's compression uses a GZIPOutputStream at the default level too
+    private static byte[] gzip(byte[] body) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(body.length / 4);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(body);
+        }
+        return out.toByteArray();
+    }
+
+    // Shaped like DashboardService's response: ten locations and companies, twenty activities
+    private static DashboardStatsResponse dashboard(List<Job> jobs) {
+        List<DashboardStatsResponse.LocationStats> locations = jobs.stream()
+                .map(Job::getLocation)
+                .distinct()
+                .limit(10)
+                .map(location -> new DashboardStatsResponse.LocationStats(location, 1234L, 12.5))
+                .toList();
+        List<DashboardStatsResponse.CompanyStats> companies = jobs.stream()
+                .map(Job::getCompany)
+                .distinct()
+                .limit(10)
+                .map(company -> new DashboardStatsResponse.CompanyStats(company, 321L, 3.2))
+                .toList();
+        List<DashboardStatsResponse.RecentActivity> activities = jobs.stream()
+                .limit(20)
+                .map(job -> new DashboardStatsResponse.RecentActivity(
+                        String.format("New job posted: %s at %s", job.getTitle(), job.getCompany()),
+                        "2 hours ago", "job"))
+                .toList();
+        return DashboardStatsResponse.builder()
+                .totalJobs(100_000L)
+                .jobsPostedToday(120L)
+                .jobsPostedThisMonth(3400L)
+                .totalVisitors(0L)
+                .activeApplications(0L)
+                .jobsGrowthPercentage(4.2)
+                .visitorsGrowthPercentage(0.0)
+                .applicationsGrowthPercentage(0.0)
+                .topLocations(locations)
+                .topCompanies(companies)
+                .recentActivities(activities)
+                .build();
+    }
+}
@@ -0,0 +1,162 @@
+package com.referralnode.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.util.*;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Per-kind latency histograms, status counts and errors for the measured window.
+ * <p>
+ * Latency is measured from each request's intended send time on the fixed arrival
+ * schedule, not from when it was actually sent. When the server (or the generator) falls
+ * behind, requests that should have gone out during the stall are charged for the wait,
+ * which corrects for coordinated omission.
+ */
+final class LatencyRecorder {
+
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.HOURS.toMicros(1);
+
+    private final Map<Workload.Kind, KindStats> stats = new EnumMap<>(Workload.Kind.class);
+
+    // How late the generator itself sent requests; large values mean the client was the bottleneck
+    private final Histogram sendLag = new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, 3);
+
+    private static final class KindStats {
+        final Histogram latency = new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, 3);
+        final LongAdder errors = new LongAdder();
+        final Map<String, LongAdder> outcomes = new ConcurrentHashMap<>();
+    }
+
+    LatencyRecorder() {
+        for (Workload.Kind kind : Workload.Kind.values()) {
+            stats.put(kind, new KindStats());
+        }
+    }
+
+    void recordSendLag(long nanos) {
+        sendLag.recordValue(toMicros(nanos));
+    }
+
+    /**
+     * @param status HTTP status, or -1 when no response arrived
+     * @param failure exception that ended the request, or null
+     */
+    void record(Workload.Kind kind, long latencyNanos, int status, Throwable failure) {
+        KindStats kindStats = stats.get(kind);
+        kindStats.latency.recordValue(toMicros(latencyNanos));
+        String outcome = failure != null ? unwrap(failure).getClass().getSimpleName() : "HTTP " + status;
+        kindStats.outcomes.computeIfAbsent(outcome, key -> new LongAdder()).increment();
+        if (failure != null || status >= 400) {
+            kindStats.errors.increment();
+        }
+    }
+
+    /**
+     * Summary of the measured window as nested maps, printed and optionally written as JSON
+     */
+    Map<String, Object> summarize(double offeredRate, double measuredSeconds) {
+        Map<String, Object> kinds = new LinkedHashMap<>();
+        Histogram overall = new Histogram(HIGHEST_TRACKABLE_MICROS, 3);
+        long overallErrors = 0;
+        for (Map.Entry<Workload.Kind, KindStats> entry : stats.entrySet()) {
+            KindStats kindStats = entry.getValue();
+            if (kindStats.latency.getTotalCount() == 0) {
+                continue;
+            }
+            overall.add(kindStats.latency);
+            overallErrors += kindStats.errors.sum();
+
+            Map<String, Object> summary = summarize(kindStats.latency, kindStats.errors.sum(), measuredSeconds);
+            Map<String, Long> outcomes = new TreeMap<>();
+            kindStats.outcomes.forEach((outcome, count) -> outcomes.put(outcome, count.sum()));
+            summary.put("outcomes", outcomes);
+            kinds.put(entry.getKey().name().toLowerCase(Locale.ROOT), summary);
+        }
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("offeredRatePerSecond", offeredRate);
+        report.put("measuredSeconds", measuredSeconds);
+        report.put("overall", summarize(overall, overallErrors, measuredSeconds));
+        report.put("kinds", kinds);
+        report.put("sendLagMillis", Map.of(
+                "p99", millis(sendLag.getValueAtPercentile(99.0)),
+                "max", millis(sendLag.getMaxValue())));
+        return report;
+    }
+
+    @SuppressWarnings("unchecked")
+    static void print(Map<String, Object> report, PrintStream out) {
+        out.printf("%nOffered %.1f req/s, measured over %.0f s. Latency in ms from the intended send time%n%n",
+                (Double) report.get("offeredRatePerSecond"), (Double) report.get("measuredSeconds"));
+        out.printf("%-10s %9s %8s %7s %9s %9s %9s %9s %9s %9s%n",
+                "kind", "requests", "errors", "err%", "req/s", "p50", "p95", "p99", "p99.9", "max");
+        Map<String, Object> kinds = (Map<String, Object>) report.get("kinds");
+        kinds.forEach((kind, summary) -> printRow(out, kind, (Map<String, Object>) summary));
+        printRow(out, "overall", (Map<String, Object>) report.get("overall"));
+
+        out.println();
+        kinds.forEach((kind, summary) -> out.printf("%-10s %s%n", kind, ((Map<String, Object>) summary).get("outcomes")));
+
+        Map<String, Double> lag = (Map<String, Double>) report.get("sendLagMillis");
+        out.printf("%nGenerator send lag: p99 %.1f ms, max %.1f ms%n", lag.get("p99"), lag.get("max"));
+        if (lag.get("p99") > 10.0) {
+            out.println("Warning: the generator fell behind its schedule; add CPU or lower the rate");
+        }
+    }
+
+    static void write(Map<String, Object> report, File file) throws IOException {
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(file, report);
+    }
+
+    private static Map<String, Object> summarize(Histogram latency, long errors, double measuredSeconds) {
+        long count = latency.getTotalCount();
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("requests", count);
+        summary.put("errors", errors);
+        summary.put("errorRate", count == 0 ? 0.0 : (double) errors / count);
+        summary.put("throughputPerSecond", count / measuredSeconds);
+        Map<String, Double> percentiles = new LinkedHashMap<>();
+        percentiles.put("p50", millis(latency.getValueAtPercentile(50.0)));
+        percentiles.put("p95", millis(latency.getValueAtPercentile(95.0)));
+        percentiles.put("p99", millis(latency.getValueAtPercentile(99.0)));
+        percentiles.put("p99.9", millis(latency.getValueAtPercentile(99.9)));
+        percentiles.put("max", millis(latency.getMaxValue()));
+        summary.put("latencyMillis", percentiles);
+        return summary;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void printRow(PrintStream out, String kind, Map<String, Object> summary) {
+        Map<String, Double> latency = (Map<String, Double>) summary.get("latencyMillis");
+        out.printf("%-10s %9d %8d %6.2f%% %9.1f %9.1f %9.1f %9.1f %9.1f %9.1f%n",
+                kind,
+                (Long) summary.get("requests"),
+                (Long) summary.get("errors"),
+                (Double) summary.get("errorRate") * 100.0,
+                (Double) summary.get("throughputPerSecond"),
+                latency.get("p50"), latency.get("p95"), latency.get("p99"), latency.get("p99.9"), latency.get("max"));
+    }
+
+    private static long toMicros(long nanos) {
+        return Math.min(HIGHEST_TRACKABLE_MICROS, Math.max(0, nanos / 1_000));
+    }
+
+    private static double millis(long micros) {
+        return micros / 1_000.0;
+    }
+
+    // sendAsync wraps failures such as HttpTimeoutException in a CompletionException
+    private static Throwable unwrap(Throwable failure) {
+        return failure instanceof CompletionException && failure.getCause() != null ? failure.getCause() : failure;
+    }
+}
@@ -0,0 +1,146 @@
+package com.referralnode.loadtest;
+
+import java.io.File;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Open-model load generator: requests are started at a fixed arrival rate whether or not
+ * earlier ones have completed, as real users would, and drawn from a weighted mix of
+ * listing, search, detail, write and dashboard requests.
+ * <pre>
+ *   --url=http://localhost:8080  --rate=200  --duration=60s  --warmup=15s
+ *   --mix=list:50,search:10,detail:30,write:5,dashboard:5
+ *   --timeout=10s  --seed=1  --report=results/run.json
+ * </pre>
+ * Requests started during the warm-up are sent but not recorded.
+ */
+public final class LoadGenerator {
+
+    private static final String DEFAULT_MIX = "list:50,search:10,detail:30,write:5,dashboard:5";
+
+    private LoadGenerator() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = parseOptions(args);
+        String url = options.getOrDefault("url", "http://localhost:8080");
+        double rate = Double.parseDouble(options.getOrDefault("rate", "200"));
+        Duration duration = parseDuration(options.getOrDefault("duration", "60s"));
+        Duration warmup = parseDuration(options.getOrDefault("warmup", "15s"));
+        Duration timeout = parseDuration(options.getOrDefault("timeout", "10s"));
+        long seed = Long.parseLong(options.getOrDefault("seed", "1"));
+        if (rate <= 0) {
+            throw new IllegalArgumentException("--rate must be positive");
+        }
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            HttpClient client = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .connectTimeout(timeout)
+                    .executor(executor)
+                    .build();
+
+            Workload workload = new Workload(url, Workload.parseMix(options.getOrDefault("mix", DEFAULT_MIX)),
+                    timeout, seed);
+            workload.sample(client);
+            System.out.printf("Sampled %d jobs from %s; offering %.1f req/s for %s after %s warm-up%n",
+                    workload.sampledJobs(), url, rate, duration, warmup);
+
+            LatencyRecorder recorder = new LatencyRecorder();
+            run(client, workload, recorder, rate, warmup, duration, timeout);
+
+            Map<String, Object> report = recorder.summarize(rate, duration.toMillis() / 1000.0);
+            LatencyRecorder.print(report, System.out);
+            if (options.containsKey("report")) {
+                File file = new File(options.get("report"));
+                if (file.getParentFile() != null) {
+                    file.getParentFile().mkdirs();
+                }
+                LatencyRecorder.write(report, file);
+                System.out.println("Report written to " + file);
+            }
+        }
+    }
+
+    private static void run(HttpClient client, Workload workload, LatencyRecorder recorder, double rate,
+                            Duration warmup, Duration duration, Duration timeout) throws InterruptedException {
+        double intervalNanos = 1_000_000_000.0 / rate;
+        long start = System.nanoTime();
+        long measureFrom = start + warmup.toNanos();
+        long end = measureFrom + duration.toNanos();
+        AtomicLong inFlight = new AtomicLong();
+
+        for (long i = 0; ; i++) {
+            long intended = start + Math.round(i * intervalNanos);
+            if (intended >= end) {
+                break;
+            }
+            long wait = intended - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+
+            boolean measured = intended >= measureFrom;
+            Workload.Kind kind = workload.next();
+            HttpRequest request = workload.request(kind);
+            if (measured) {
+                recorder.recordSendLag(System.nanoTime() - intended);
+            }
+
+            inFlight.incrementAndGet();
+            client.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                    .whenComplete((response, failure) -> {
+                        // From the scheduled start, so a stalled server is charged for requests it delayed
+                        long latency = System.nanoTime() - intended;
+                        if (measured) {
+                            recorder.record(kind, latency, response == null ? -1 : response.statusCode(), failure);
+                        }
+                        inFlight.decrementAndGet();
+                    });
+        }
+
+        // Every request either completes or times out within the request timeout
+        long drainDeadline = System.nanoTime() + timeout.toNanos() + 1_000_000_000L;
+        while (inFlight.get() > 0 && System.nanoTime() < drainDeadline) {
+            Thread.sleep(50);
+        }
+        if (inFlight.get() > 0) {
+            System.out.printf("%d requests still in flight at the end were not recorded%n", inFlight.get());
+        }
+    }
+
+    private static Map<String, String> parseOptions(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Invalid option '" + arg + "', expected --name=value");
+            }
+            int split = arg.indexOf('=');
+            options.put(arg.substring(2, split), arg.substring(split + 1));
+        }
+        return options;
+    }
+
+    // "500ms", "30s", "5m"
+    static Duration parseDuration(String value) {
+        String text = value.trim().toLowerCase(Locale.ROOT);
+        if (text.endsWith("ms")) {
+            return Duration.ofMillis(Long.parseLong(text.substring(0, text.length() - 2)));
+        } else if (text.endsWith("s")) {
+            return Duration.ofSeconds(Long.parseLong(text.substring(0, text.length() - 1)));
+        } else if (text.endsWith("m")) {
+            return Duration.ofMinutes(Long.parseLong(text.substring(0, text.length() - 1)));
+        }
+        throw new IllegalArgumentException("Invalid duration '" + value + "', expected e.g. 500ms, 30s or 5m");
+    }
+}
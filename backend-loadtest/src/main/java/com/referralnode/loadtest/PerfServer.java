@@ -0,0 +1,42 @@
+package com.referralnode.loadtest;
+
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.utility.DockerImageName;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Boots the backend with the perf profile against a throwaway PostgreSQL container,
+ * so a load test needs nothing but Docker. Extra arguments are passed to the
+ * application, e.g. {@code --perf.seed.jobs=1000000 --spring.threads.virtual.enabled=true}.
+ * <p>
+ * To test against an existing database instead, run the backend itself with
+ * {@code --spring.profiles.active=perf} and its datasource settings.
+ */
+public final class PerfServer {
+
+    private PerfServer() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        String image = System.getProperty("perf.postgres-image", "postgres:16-alpine");
+        PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>(DockerImageName.parse(image));
+        postgres.start();
+        Runtime.getRuntime().addShutdownHook(new Thread(postgres::stop));
+
+        List<String> applicationArgs = new ArrayList<>(List.of(
+                "--spring.profiles.active=perf",
+                "--spring.datasource.url=" + postgres.getJdbcUrl()
+                        + (postgres.getJdbcUrl().contains("?") ? "&" : "?") + "reWriteBatchedInserts=true",
+                "--spring.datasource.username=" + postgres.getUsername(),
+                "--spring.datasource.password=" + postgres.getPassword()));
+        applicationArgs.addAll(Arrays.asList(args));
+
+        // The application class is declared in the default package, so it cannot be imported
+        Class.forName("ReferralNodeApplication")
+                .getMethod("main", String[].class)
+                .invoke(null, (Object) applicationArgs.toArray(new String[0]));
+    }
+}
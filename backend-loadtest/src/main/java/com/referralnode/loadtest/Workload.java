@@ -0,0 +1,226 @@
+package com.referralnode.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+
+/**
+ * The request mix. Filter values and job ids are sampled from the running server first,
+ * so the same workload fits the seeded perf data and any other database.
+ */
+final class Workload {
+
+    enum Kind {
+        // GET /api/jobs, unfiltered or with company/location/tag filters
+        LIST,
+        // GET /api/jobs?q= ranked full-text search
+        SEARCH,
+        // GET /api/admin/jobs/{id}, the cached detail endpoint
+        DETAIL,
+        // POST /api/admin/jobs
+        WRITE,
+        // GET /api/admin/dashboard/stats
+        DASHBOARD,
+        // GET /api/jobs?cursor= first keyset page, blocking stack; same filters as LIST
+        CURSOR,
+        // GET /api/reactive/jobs, the same page from the WebFlux/R2DBC stack
+        REACTIVE
+    }
+
+    private static final int SAMPLE_PAGES = 10;
+    private static final int SAMPLE_PAGE_SIZE = 100;
+
+    private final String baseUrl;
+    private final Duration timeout;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final SplittableRandom random;
+    private final String runId = Long.toString(System.currentTimeMillis(), 36);
+
+    private final Kind[] kinds;
+    private final int[] cumulativeWeights;
+
+    private final List<String> ids = new ArrayList<>();
+    private final List<String> companies = new ArrayList<>();
+    private final List<String> locations = new ArrayList<>();
+    private final List<String> tags = new ArrayList<>();
+    private final List<String> words = new ArrayList<>();
+    private long writes;
+
+    Workload(String baseUrl, Map<Kind, Integer> mix, Duration timeout, long seed) {
+        this.baseUrl = baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl;
+        this.timeout = timeout;
+        this.random = new SplittableRandom(seed);
+
+        List<Map.Entry<Kind, Integer>> weighted = mix.entrySet().stream()
+                .filter(entry -> entry.getValue() > 0)
+                .toList();
+        if (weighted.isEmpty()) {
+            throw new IllegalArgumentException("The mix has no request kind with a positive weight");
+        }
+        kinds = new Kind[weighted.size()];
+        cumulativeWeights = new int[weighted.size()];
+        int total = 0;
+        for (int i = 0; i < weighted.size(); i++) {
+            total += weighted.get(i).getValue();
+            kinds[i] = weighted.get(i).getKey();
+            cumulativeWeights[i] = total;
+        }
+    }
+
+    /**
+     * Parse "list:50,detail:30,..." into weights per kind
+     */
+    static Map<Kind, Integer> parseMix(String value) {
+        Map<Kind, Integer> mix = new EnumMap<>(Kind.class);
+        for (String part : value.split(",")) {
+            String[] pair = part.trim().split(":");
+            if (pair.length != 2) {
+                throw new IllegalArgumentException("Invalid mix entry '" + part + "', expected kind:weight");
+            }
+            mix.put(Kind.valueOf(pair[0].trim().toUpperCase(Locale.ROOT)), Integer.parseInt(pair[1].trim()));
+        }
+        return mix;
+    }
+
+    /**
+     * Read job ids and filter values from the first listing pages
+     */
+    void sample(HttpClient client) throws IOException, InterruptedException {
+        Set<String> seenCompanies = new LinkedHashSet<>();
+        Set<String> seenLocations = new LinkedHashSet<>();
+        Set<String> seenTags = new LinkedHashSet<>();
+        Set<String> seenWords = new LinkedHashSet<>();
+        for (int page = 0; page < SAMPLE_PAGES; page++) {
+            HttpResponse<String> response = client.send(
+                    get("/api/jobs?fields=id,title,company,location,tags&size=" + SAMPLE_PAGE_SIZE + "&page=" + page),
+                    HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() != 200) {
+                throw new IOException("Sampling jobs failed with HTTP " + response.statusCode() + ": " + response.body());
+            }
+            JsonNode content = objectMapper.readTree(response.body()).path("content");
+            for (JsonNode job : content) {
+                ids.add(job.path("id").asText());
+                addIfPresent(seenCompanies, job.path("company"));
+                addIfPresent(seenLocations, job.path("location"));
+                job.path("tags").forEach(tag -> addIfPresent(seenTags, tag));
+                for (String word : job.path("title").asText("").split("\\W+")) {
+                    if (word.length() > 3) {
+                        seenWords.add(word.toLowerCase(Locale.ROOT));
+                    }
+                }
+            }
+            if (content.size() < SAMPLE_PAGE_SIZE) {
+                break;
+            }
+        }
+        if (ids.isEmpty()) {
+            throw new IOException("The server has no jobs; start it with the perf profile to seed some");
+        }
+        companies.addAll(seenCompanies);
+        locations.addAll(seenLocations);
+        tags.addAll(seenTags);
+        words.addAll(seenWords);
+    }
+
+    int sampledJobs() {
+        return ids.size();
+    }
+
+    /**
+     * Next request kind, drawn by weight. Only called from the arrival loop
+     */
+    Kind next() {
+        int draw = random.nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        for (int i = 0; i < kinds.length; i++) {
+            if (draw < cumulativeWeights[i]) {
+                return kinds[i];
+            }
+        }
+        return kinds[kinds.length - 1];
+    }
+
+    HttpRequest request(Kind kind) {
+        return switch (kind) {
+            case LIST -> get("/api/jobs?page=" + random.nextInt(5) + "&size=20" + listFilter());
+            case SEARCH -> get("/api/jobs?size=20&q=" + encode(words.isEmpty() ? "engineer" : pick(words)));
+            case DETAIL -> get("/api/admin/jobs/" + pick(ids));
+            case WRITE -> post("/api/admin/jobs", newJob());
+            case DASHBOARD -> get("/api/admin/dashboard/stats");
+            case CURSOR -> get("/api/jobs?cursor=&size=20" + listFilter());
+            case REACTIVE -> get("/api/reactive/jobs?size=20" + listFilter());
+        };
+    }
+
+    // Most listings are unfiltered; the rest filter on one attribute
+    private String listFilter() {
+        int draw = random.nextInt(100);
+        if (draw < 40 || companies.isEmpty()) {
+            return "";
+        } else if (draw < 70) {
+            return "&company=" + encode(pick(companies));
+        } else if (draw < 85 && !locations.isEmpty()) {
+            return "&location=" + encode(pick(locations));
+        }
+        return tags.isEmpty() ? "" : "&tags=" + encode(pick(tags));
+    }
+
+    private String newJob() {
+        long n = writes++;
+        Map<String, Object> job = new LinkedHashMap<>();
+        job.put("title", "Load Test Engineer " + n);
+        job.put("company", companies.isEmpty() ? "Load Test Co" : pick(companies));
+        job.put("location", locations.isEmpty() ? "Remote" : pick(locations));
+        // Unique per run and request so the deduplicator accepts every write
+        job.put("description", "<p>Synthetic posting " + runId + "-" + n + " created by the load generator.</p>");
+        job.put("salaryRange", "$100k - $150k");
+        job.put("postedAt", LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS).toString());
+        job.put("sourceUrl", "https://loadtest.referralnode.local/" + runId + "/" + n);
+        job.put("tags", tags.isEmpty() ? List.of() : List.of(pick(tags)));
+        try {
+            return objectMapper.writeValueAsString(job);
+        } catch (IOException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    private HttpRequest get(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(timeout)
+                .header("Accept", "application/json")
+                .GET()
+                .build();
+    }
+
+    private HttpRequest post(String path, String body) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(timeout)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+
+    private String pick(List<String> values) {
+        return values.get(random.nextInt(values.size()));
+    }
+
+    private static void addIfPresent(Set<String> values, JsonNode node) {
+        if (node.isTextual() && !node.asText().isBlank()) {
+            values.add(node.asText());
+        }
+    }
+
+    private static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,159 @@
+package com.referralnode.config;
+
+import com.referralnode.datasource.ReadWriteRoutingDataSource;
+import com.referralnode.datasource.ReadYourWritesFilter;
+import com.referralnode.datasource.ReplicaHealthIndicator;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.Ordered;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Read/write splitting (see READ_REPLICAS.md). Replaces the auto-configured pool with the
+ * primary pool plus one pool per replica, behind a routing DataSource that sends read-only
+ * transactions to healthy replicas. Off by default; without it everything uses the primary.
+ */
+@Configuration
+@ConditionalOnProperty(name = "datasource.routing.enabled", havingValue = "true")
+@Slf4j
+public class DataSourceRoutingConfig {
+
+    /**
+     * Open-in-view binds one session, and so one connection, to the whole request: the first
+     * read would pick primary or replica for every transaction after it. Boot enables it by
+     * default, so refuse to start rather than route silently wrong.
+     */
+    public DataSourceRoutingConfig(@Value("${spring.jpa.open-in-view:true}") boolean openInView) {
+        if (openInView) {
+            throw new IllegalStateException(
+                    "datasource.routing.enabled requires spring.jpa.open-in-view=false (see READ_REPLICAS.md)");
+        }
+    }
+
+    /**
+     * The spring.datasource.* pool, exactly as auto-configuration would build it
+     */
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    public ReadWriteRoutingDataSource routingDataSource(
+            HikariDataSource primaryDataSource,
+            ObjectProvider<MeterRegistry> meterRegistry,
+            @Value("${datasource.routing.replica-urls:}") String[] replicaUrls,
+            @Value("${datasource.routing.replica-username:${spring.datasource.username}}") String username,
+            @Value("${datasource.routing.replica-password:${spring.datasource.password}}") String password,
+            @Value("${datasource.routing.replica-pool-size:10}") int poolSize,
+            @Value("${datasource.routing.replica-connection-timeout-ms:1000}") long connectionTimeoutMillis,
+            @Value("${datasource.routing.max-lag-ms:2000}") long maxLagMillis) {
+
+        MeterRegistry registry = meterRegistry.getIfAvailable();
+        List<ReadWriteRoutingDataSource.Replica> replicas = new ArrayList<>();
+        for (String url : replicaUrls) {
+            if (url.isBlank()) {
+                continue;
+            }
+            HikariConfig config = new HikariConfig();
+            config.setPoolName("replica-" + replicas.size());
+            config.setJdbcUrl(url.trim());
+            config.setUsername(username);
+            config.setPassword(password);
+            config.setDriverClassName(primaryDataSource.getDriverClassName());
+            config.setMaximumPoolSize(poolSize);
+            // A dead replica should cost a read one short wait, then the health state takes over
+            config.setConnectionTimeout(connectionTimeoutMillis);
+            config.setReadOnly(true);
+            // Start even while a replica is down; it joins once its health check passes
+            config.setInitializationFailTimeout(-1);
+            if (registry != null) {
+                config.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(registry));
+            }
+            replicas.add(new ReadWriteRoutingDataSource.Replica(config.getPoolName(), new HikariDataSource(config)));
+        }
+        if (replicas.isEmpty()) {
+            log.warn("datasource.routing.enabled is set but no replica-urls are configured; all reads use the primary");
+        }
+        return new ReadWriteRoutingDataSource(primaryDataSource, replicas, maxLagMillis);
+    }
+
+    /**
+     * The DataSource JPA, JdbcTemplate and transactions use. The lazy proxy delays fetching a
+     * connection until the first statement, after the transaction's read-only flag is known.
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(ReadWriteRoutingDataSource routingDataSource) {
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+
+    @Bean
+    public ReplicaHealthIndicator replicaHealthIndicator(ReadWriteRoutingDataSource routingDataSource) {
+        return new ReplicaHealthIndicator(routingDataSource);
+    }
+
+    /**
+     * Reads served by replicas vs. fallen back to the primary, and each replica's replay lag
+     */
+    @Bean
+    public MeterBinder dataSourceRoutingMetrics(ReadWriteRoutingDataSource routingDataSource) {
+        return registry -> {
+            FunctionCounter.builder("referralnode.datasource.reads", routingDataSource,
+                            ReadWriteRoutingDataSource::getReplicaReads)
+                    .tag("target", "replica")
+                    .description("Read-only connections served by a replica")
+                    .register(registry);
+            FunctionCounter.builder("referralnode.datasource.reads", routingDataSource,
+                            ReadWriteRoutingDataSource::getPrimaryFallbacks)
+                    .tag("target", "primary-fallback")
+                    .description("Read-only connections served by the primary because no replica was healthy")
+                    .register(registry);
+            for (ReadWriteRoutingDataSource.Replica replica : routingDataSource.getReplicas()) {
+                Gauge.builder("referralnode.datasource.replica.lag", replica,
+                                r -> r.getLagMillis() < 0 ? Double.NaN : r.getLagMillis() / 1000.0)
+                        .tag("replica", replica.getName())
+                        .baseUnit("seconds")
+                        .description("Replay lag at the last health check, NaN if unknown")
+                        .register(registry);
+            }
+        };
+    }
+
+    /**
+     * Pins the client to the primary after an admin mutation; a window of 0 turns it off
+     */
+    @Bean
+    public FilterRegistrationBean<ReadYourWritesFilter> readYourWritesFilter(
+            @Value("${datasource.routing.read-your-writes-ms:5000}") long windowMillis) {
+        FilterRegistrationBean<ReadYourWritesFilter> registration =
+                new FilterRegistrationBean<>(new ReadYourWritesFilter(Duration.ofMillis(windowMillis)));
+        registration.setEnabled(windowMillis > 0);
+        // Outside security and everything else, so the whole request sees the pin
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+}
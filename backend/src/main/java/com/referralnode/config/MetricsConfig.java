@@ -0,0 +1,31 @@
+package com.referralnode.config;
+
+import com.referralnode.util.CategoryDictionary;
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class MetricsConfig {
+    
+    /**
+     * Backs {@code @Timed} on service classes (referralnode.service timers, tagged by class and method)
+     */
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry meterRegistry) {
+        return new TimedAspect(meterRegistry);
+    }
+    
+    /**
+     * Pooled canonical tag/company/location strings; the pool is capped, so a flat line at the cap is expected
+     */
+    @Bean
+    public MeterBinder categoryDictionaryMetrics() {
+        return registry -> Gauge.builder("referralnode.dictionary.size", CategoryDictionary::canonicalCount)
+                .description("Canonical tag, company and location strings pooled by CategoryDictionary")
+                .register(registry);
+    }
+}
@@ -0,0 +1,56 @@
+package com.referralnode.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.referralnode.reactive.ReactiveJobHandler;
+import org.springframework.boot.web.servlet.ServletRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.codec.json.Jackson2JsonDecoder;
+import org.springframework.http.codec.json.Jackson2JsonEncoder;
+import org.springframework.http.server.reactive.ServletHttpHandlerAdapter;
+import org.springframework.web.reactive.function.server.HandlerStrategies;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import org.springframework.web.reactive.function.server.ServerResponse;
+
+/**
+ * Reactive read API (see REACTIVE_API.md). WebFlux functional routes run on the same Tomcat
+ * as the MVC controllers, through a servlet that uses Servlet non-blocking I/O. No thread is
+ * held while a request waits on the database or on a slow client.
+ * <p>
+ * Security, CORS and the other servlet filters still apply. GlobalExceptionHandler does not,
+ * so the routes map IllegalArgumentException to the same 400 body themselves.
+ */
+@Configuration
+public class ReactiveApiConfig {
+
+    public static final String PATH_PREFIX = "/api/reactive";
+
+    @Bean
+    public ServletRegistrationBean<ServletHttpHandlerAdapter> reactiveApiServlet(
+            ReactiveJobHandler handler,
+            ObjectMapper objectMapper) {
+
+        RouterFunction<ServerResponse> routes = RouterFunctions.route()
+                .GET("/jobs/stream", handler::stream)
+                .GET("/jobs", handler::list)
+                .onError(IllegalArgumentException.class, handler::badRequest)
+                .build();
+
+        // Boot's ObjectMapper, so dates and nulls serialize exactly as on the MVC endpoints
+        HandlerStrategies strategies = HandlerStrategies.builder()
+                .codecs(codecs -> {
+                    codecs.defaultCodecs().jackson2JsonEncoder(new Jackson2JsonEncoder(objectMapper));
+                    codecs.defaultCodecs().jackson2JsonDecoder(new Jackson2JsonDecoder(objectMapper));
+                })
+                .build();
+
+        ServletRegistrationBean<ServletHttpHandlerAdapter> registration = new ServletRegistrationBean<>(
+                new ServletHttpHandlerAdapter(RouterFunctions.toHttpHandler(routes, strategies)),
+                PATH_PREFIX + "/*");
+        registration.setName("reactiveApi");
+        registration.setAsyncSupported(true);
+        registration.setLoadOnStartup(1);
+        return registration;
+    }
+}
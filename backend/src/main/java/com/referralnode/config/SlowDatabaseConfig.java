@@ -0,0 +1,37 @@
+package com.referralnode.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+/**
+ * Simulates a slow database for comparing platform and virtual thread modes
+ * (see VIRTUAL_THREADS.md). Every statement Hibernate prepares is delayed while the
+ * session holds its connection, like a slow query would, so pool contention behaves
+ * realistically. Statements issued directly through JdbcTemplate are not delayed.
+ */
+@Configuration
+@Profile("slow-db")
+@Slf4j
+public class SlowDatabaseConfig {
+    
+    @Bean
+    public HibernatePropertiesCustomizer slowStatementInspector(
+            @Value("${perf.slow-db.delay-ms:200}") long delayMillis) {
+        log.warn("slow-db profile active: delaying every Hibernate statement by {} ms", delayMillis);
+        StatementInspector inspector = sql -> {
+            try {
+                Thread.sleep(delayMillis);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+            return sql;
+        };
+        return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, inspector);
+    }
+}
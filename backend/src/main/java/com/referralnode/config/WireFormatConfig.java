@@ -0,0 +1,64 @@
+package com.referralnode.config;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.UUID;
+
+/**
+ * Binary response formats for the MVC endpoints. A client that sends {@code Accept: application/cbor}
+ * or {@code Accept: application/x-jackson-smile} gets the same document as the JSON body, field for
+ * field, in that encoding. Any other Accept header, including a browser's default, still gets JSON.
+ * <p>
+ * Spring MVC would add CBOR and Smile converters by itself once the libraries are present, but with
+ * its own ObjectMapper defaults. These are built from Boot's builder instead, so dates, nulls and
+ * spring.jackson.* settings match the JSON responses.
+ */
+@Configuration
+public class WireFormatConfig implements WebMvcConfigurer {
+
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2CborHttpMessageConverter(binary(builder.factory(new CBORFactory())));
+    }
+
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2SmileHttpMessageConverter(binary(builder.factory(new SmileFactory())));
+    }
+
+    // Binary formats would write UUIDs as 16 raw bytes; ids stay strings, as in JSON
+    private static ObjectMapper binary(Jackson2ObjectMapperBuilder builder) {
+        return builder
+                .postConfigurer(mapper -> mapper.configOverride(UUID.class)
+                        .setFormat(JsonFormat.Value.forShape(JsonFormat.Shape.STRING)))
+                .build();
+    }
+
+    /**
+     * The body of an /api response depends on Accept, so shared caches must key on it
+     */
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new HandlerInterceptor() {
+            @Override
+            public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+                response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+                return true;
+            }
+        }).addPathPatterns("/api/**");
+    }
+}
@@ -0,0 +1,33 @@
+package com.referralnode.controller;
+
+import com.referralnode.dto.IngestStatusResponse;
+import com.referralnode.ingest.IngestPipeline;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/admin/ingest")
+@RequiredArgsConstructor
+public class AdminIngestController {
+    
+    private final IngestPipeline ingestPipeline;
+    
+    /**
+     * Per-stage throughput, queue depths and source checkpoints
+     */
+    @GetMapping("/status")
+    public ResponseEntity<IngestStatusResponse> getStatus() {
+        return ResponseEntity.ok(ingestPipeline.status());
+    }
+    
+    /**
+     * Start an ingestion run now instead of waiting for the next poll
+     */
+    @PostMapping("/run")
+    public ResponseEntity<IngestStatusResponse> run() {
+        HttpStatus status = ingestPipeline.trigger() ? HttpStatus.ACCEPTED : HttpStatus.CONFLICT;
+        return ResponseEntity.status(status).body(ingestPipeline.status());
+    }
+}
@@ -1,14 +1,32 @@
 package com.referralnode.controller;
 
+import com.referralnode.dto.BatchIngestResponse;
+import com.referralnode.dto.CacheStatsResponse;
 import com.referralnode.dto.JobRequest;
 import com.referralnode.dto.JobResponse;
+import com.referralnode.search.TagMode;
+import com.referralnode.service.JobBatchService;
+import com.referralnode.service.JobExportService;
+import com.referralnode.service.JobResponseCache;
 import com.referralnode.service.JobService;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.HttpMediaTypeNotAcceptableException;
+import org.springframework.web.accept.ContentNegotiationManager;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.NativeWebRequest;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDate;
+import java.util.List;
 import java.util.UUID;
 
 @RestController
@@ -16,7 +34,12 @@ import java.util.UUID;
 @RequiredArgsConstructor
 public class AdminJobController {
     
+    private static final MediaType SMILE = MediaType.valueOf("application/x-jackson-smile");
+    
     private final JobService jobService;
+    private final JobBatchService jobBatchService;
+    private final JobExportService jobExportService;
+    private final ContentNegotiationManager contentNegotiationManager;
     
     /**
      * Create a new job
@@ -27,6 +50,46 @@ public class AdminJobController {
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
     
+    /**
+     * Create many jobs from a JSON array or an NDJSON stream, with a per-item result report
+     */
+    @PostMapping(value = "/batch", consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public ResponseEntity<BatchIngestResponse> createJobs(InputStream body) throws IOException {
+        return ResponseEntity.ok(jobBatchService.ingest(body));
+    }
+    
+    /**
+     * Stream all jobs matching the filters as NDJSON (default) or CSV
+     */
+    @GetMapping("/export")
+    public void exportJobs(
+            @RequestParam(defaultValue = "ndjson") String format,
+            @RequestParam(required = false) String company,
+            @RequestParam(required = false) String location,
+            @RequestParam(required = false) String title,
+            @RequestParam(required = false) String tags,
+            @RequestParam(defaultValue = "any") String tagMode,
+            HttpServletResponse response) throws IOException {
+        
+        JobExportService.Format exportFormat = JobExportService.Format.parse(format);
+        TagMode tagMatch = TagMode.parse(tagMode);
+        
+        // Parse tags if provided
+        List<String> tagList = null;
+        if (tags != null && !tags.trim().isEmpty()) {
+            tagList = List.of(tags.split(","));
+        }
+        
+        response.setContentType(exportFormat.getContentType());
+        response.setCharacterEncoding("UTF-8");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                .filename("jobs-" + LocalDate.now() + "." + exportFormat.getExtension())
+                .build()
+                .toString());
+        
+        jobExportService.export(exportFormat, company, location, title, tagList, tagMatch, response.getOutputStream());
+    }
+    
     /**
      * Update an existing job
      */
@@ -48,11 +111,41 @@ public class AdminJobController {
     }
     
     /**
-     * Get a single job by ID
+     * Get a single job by ID.
+     * Served from cache with ETag/Last-Modified; matching conditional requests get 304 without a body.
      */
     @GetMapping("/{id}")
-    public ResponseEntity<JobResponse> getJobById(@PathVariable UUID id) {
-        JobResponse response = jobService.getJobById(id);
-        return ResponseEntity.ok(response);
+    public ResponseEntity<JobResponse> getJobById(@PathVariable UUID id, NativeWebRequest request)
+            throws HttpMediaTypeNotAcceptableException {
+        JobResponseCache.CachedJob job = jobService.getCachedJob(id);
+        return ResponseEntity.ok()
+                .eTag(job.etag(wireFormat(request)))
+                .lastModified(job.lastModifiedMillis())
+                .cacheControl(CacheControl.noCache())
+                .body(job.response());
+    }
+    
+    // Mirrors the converter choice for Accept: the first CBOR or Smile type wins, anything else is JSON
+    private String wireFormat(NativeWebRequest request) throws HttpMediaTypeNotAcceptableException {
+        for (MediaType type : contentNegotiationManager.resolveMediaTypes(request)) {
+            if (type.isCompatibleWith(MediaType.APPLICATION_CBOR)) {
+                return "cbor";
+            }
+            if (type.isCompatibleWith(SMILE)) {
+                return "smile";
+            }
+            if (type.isCompatibleWith(MediaType.APPLICATION_JSON)) {
+                return "json";
+            }
+        }
+        return "json";
+    }
+    
+    /**
+     * Job detail cache statistics
+     */
+    @GetMapping("/cache/stats")
+    public ResponseEntity<CacheStatsResponse> getJobCacheStats() {
+        return ResponseEntity.ok(jobService.getJobCacheStats());
     }
 }
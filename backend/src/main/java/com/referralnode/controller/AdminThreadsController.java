@@ -0,0 +1,35 @@
+package com.referralnode.controller;
+
+import com.referralnode.diagnostics.VirtualThreadPinningMonitor;
+import com.referralnode.dto.ThreadingStatusResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/admin/threads")
+@RequiredArgsConstructor
+public class AdminThreadsController {
+    
+    private final VirtualThreadPinningMonitor pinningMonitor;
+    
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+    
+    /**
+     * Execution mode and the sites where virtual threads were pinned to their carrier
+     */
+    @GetMapping
+    public ResponseEntity<ThreadingStatusResponse> getStatus() {
+        Thread current = Thread.currentThread();
+        return ResponseEntity.ok(ThreadingStatusResponse.builder()
+                .virtualThreadsEnabled(virtualThreads)
+                .requestThreadVirtual(current.isVirtual())
+                .requestThread(current.toString())
+                .pinningRecorded(pinningMonitor.isRecording())
+                .pinningThresholdMillis(pinningMonitor.getThresholdMillis())
+                .pinnedSites(pinningMonitor.sites())
+                .build());
+    }
+}
@@ -1,13 +1,18 @@
 package com.referralnode.controller;
 
 import com.referralnode.dto.DashboardStatsResponse;
+import com.referralnode.dto.TimeSeriesResponse;
 import com.referralnode.service.DashboardService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.time.LocalDateTime;
+
 @RestController
 @RequestMapping("/api/admin/dashboard")
 @RequiredArgsConstructor
@@ -20,4 +25,25 @@ public class DashboardController {
         DashboardStatsResponse stats = dashboardService.getDashboardStats();
         return ResponseEntity.ok(stats);
     }
+
+    /**
+     * Job posting counts per time bucket
+     * 
+     * @param granularity Bucket size: HOUR, DAY or WEEK (default: DAY)
+     * @param from Range start, inclusive (default: 30 days before 'to')
+     * @param to Range end, exclusive (default: now)
+     * @param breakdown NONE, COMPANY or LOCATION (default: NONE)
+     * @param limit Maximum number of breakdown series (default: 5)
+     * @return Bucketed counts with optional per-company/location series
+     */
+    @GetMapping("/timeseries")
+    public ResponseEntity<TimeSeriesResponse> getTimeSeries(
+            @RequestParam(defaultValue = "DAY") String granularity,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(defaultValue = "NONE") String breakdown,
+            @RequestParam(defaultValue = "5") int limit) {
+        TimeSeriesResponse response = dashboardService.getTimeSeries(granularity, from, to, breakdown, limit);
+        return ResponseEntity.ok(response);
+    }
 }
@@ -1,14 +1,24 @@
 package com.referralnode.controller;
 
-import com.referralnode.dto.JobResponse;
+import com.referralnode.dto.CursorPageResponse;
+import com.referralnode.dto.JobFragment;
+import com.referralnode.dto.JobSummary;
 import com.referralnode.dto.PageResponse;
+import com.referralnode.search.FacetField;
+import com.referralnode.search.TagMode;
+import com.referralnode.search.TotalMode;
 import com.referralnode.service.JobService;
+import com.referralnode.sse.JobEventBroadcaster;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
 
@@ -17,7 +27,14 @@ import java.util.List;
 @RequiredArgsConstructor
 public class JobController {
 
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+    private static final int MAX_PAGE_SIZE = 100;
+    // Deeper offset pages cost a scan of every row before them; cursor pages do not
+    private static final int MAX_OFFSET = 10_000;
+    private static final int MAX_FACET_SIZE = 100;
+
     private final JobService jobService;
+    private final JobEventBroadcaster jobEventBroadcaster;
 
     /**
      * Get all jobs with pagination and optional filtering
@@ -29,11 +46,16 @@ public class JobController {
      * @param company Filter by company name (optional)
      * @param location Filter by location (optional)
      * @param title Filter by job title (optional)
-     * @param tags Filter by tags (optional, comma-separated)
+     * @param tags Filter by tags (optional, comma-separated, case-insensitive)
+     * @param tagMode any: jobs with at least one of the tags; all: jobs with every tag (default: any)
+     * @param q Free-text query; results are ranked by relevance and sortBy/sortDir are ignored (optional)
+     * @param total How totals are computed: exact, approx or none (default: approx)
+     * @param facets Comma-separated facets to count over all matching jobs: company, location, tags (optional)
+     * @param facetSize Values returned per facet, most frequent first (default: 10, max: 100)
      * @return Paginated list of jobs
      */
     @GetMapping
-    public ResponseEntity<PageResponse<JobResponse>> getAllJobs(
+    public ResponseEntity<PageResponse<JobFragment>> getAllJobs(
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size,
             @RequestParam(defaultValue = "postedAt") String sortBy,
@@ -41,7 +63,32 @@ public class JobController {
             @RequestParam(required = false) String company,
             @RequestParam(required = false) String location,
             @RequestParam(required = false) String title,
-            @RequestParam(required = false) String tags) {
+            @RequestParam(required = false) String tags,
+            @RequestParam(defaultValue = "any") String tagMode,
+            @RequestParam(required = false) String q,
+            @RequestParam(defaultValue = "approx") String total,
+            @RequestParam(required = false) String facets,
+            @RequestParam(defaultValue = "10") int facetSize) {
+        
+        checkOffsetPage(page, size);
+        TotalMode totalMode = TotalMode.parse(total);
+        TagMode tagMatch = TagMode.parse(tagMode);
+        List<FacetField> facetFields = FacetField.parseAll(facets);
+        if (facetSize < 1 || facetSize > MAX_FACET_SIZE) {
+            throw new IllegalArgumentException("facetSize must be between 1 and " + MAX_FACET_SIZE);
+        }
+        
+        // Parse tags if provided
+        List<String> tagList = null;
+        if (tags != null && !tags.trim().isEmpty()) {
+            tagList = List.of(tags.split(","));
+        }
+        
+        // Ranked full-text search
+        if (q != null && !q.trim().isEmpty()) {
+            return ResponseEntity.ok(jobService.searchJobs(
+                    q, page, size, company, location, title, tagList, tagMatch, totalMode, facetFields, facetSize));
+        }
         
         // Create pageable with sorting
         Sort sort = sortDir.equalsIgnoreCase("ASC") 
@@ -49,15 +96,140 @@ public class JobController {
                 : Sort.by(sortBy).descending();
         Pageable pageable = PageRequest.of(page, size, sort);
         
+        PageResponse<JobFragment> response = jobService.getJobsWithFilters(
+                pageable, company, location, title, tagList, tagMatch, totalMode, facetFields, facetSize);
+        
+        return ResponseEntity.ok(response);
+    }
+    
+    /**
+     * Get jobs with keyset (cursor) pagination. Pass an empty cursor for the first page
+     * and the returned nextCursor for each following page.
+     * 
+     * @param cursor Opaque cursor from the previous page (empty for the first page)
+     * @param size Page size (default: 10, max: 100)
+     * @param sortBy postedAt or createdAt (default: postedAt); ignored once a cursor is given
+     * @param sortDir Sort direction (default: DESC); ignored once a cursor is given
+     * @param company Filter by company name (optional)
+     * @param location Filter by location (optional)
+     * @param title Filter by job title (optional)
+     * @param tags Filter by tags (optional, comma-separated, case-insensitive)
+     * @param tagMode any: jobs with at least one of the tags; all: jobs with every tag (default: any)
+     * @return Page of jobs with the cursor for the next page
+     */
+    @GetMapping(params = "cursor")
+    public ResponseEntity<CursorPageResponse<JobFragment>> getJobsByCursor(
+            @RequestParam String cursor,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "postedAt") String sortBy,
+            @RequestParam(defaultValue = "DESC") String sortDir,
+            @RequestParam(required = false) String company,
+            @RequestParam(required = false) String location,
+            @RequestParam(required = false) String title,
+            @RequestParam(required = false) String tags,
+            @RequestParam(defaultValue = "any") String tagMode) {
+        
+        if (size < 1 || size > MAX_CURSOR_PAGE_SIZE) {
+            throw new IllegalArgumentException("size must be between 1 and " + MAX_CURSOR_PAGE_SIZE);
+        }
+        TagMode tagMatch = TagMode.parse(tagMode);
+        
+        // Parse tags if provided
+        List<String> tagList = null;
+        if (tags != null && !tags.trim().isEmpty()) {
+            tagList = List.of(tags.split(","));
+        }
+        
+        CursorPageResponse<JobFragment> response = jobService.getJobsByCursor(
+                cursor, size, sortBy, sortDir.equalsIgnoreCase("ASC"), company, location, title, tagList, tagMatch);
+        
+        return ResponseEntity.ok(response);
+    }
+    
+    /**
+     * Get job summaries with a sparse fieldset
+     * 
+     * @param fields Comma-separated JobSummary fields to select (empty for all; id is always included)
+     * @param page Page number (default: 0)
+     * @param size Page size (default: 10)
+     * @param sortBy Sort field (default: postedAt)
+     * @param sortDir Sort direction (default: DESC)
+     * @param total Total count mode: exact, approx or none (default: approx)
+     * @return Page of job summaries containing only the requested fields
+     */
+    @GetMapping(params = {"fields", "!cursor"})
+    public ResponseEntity<PageResponse<JobSummary>> getJobSummaries(
+            @RequestParam String fields,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "postedAt") String sortBy,
+            @RequestParam(defaultValue = "DESC") String sortDir,
+            @RequestParam(required = false) String company,
+            @RequestParam(required = false) String location,
+            @RequestParam(required = false) String title,
+            @RequestParam(required = false) String tags,
+            @RequestParam(defaultValue = "any") String tagMode,
+            @RequestParam(required = false) String q,
+            @RequestParam(defaultValue = "approx") String total) {
+        
+        if (q != null && !q.trim().isEmpty()) {
+            throw new IllegalArgumentException("fields cannot be combined with q");
+        }
+        checkOffsetPage(page, size);
+        TotalMode totalMode = TotalMode.parse(total);
+        TagMode tagMatch = TagMode.parse(tagMode);
+        
         // Parse tags if provided
         List<String> tagList = null;
         if (tags != null && !tags.trim().isEmpty()) {
             tagList = List.of(tags.split(","));
         }
         
-        PageResponse<JobResponse> response = jobService.getJobsWithFilters(
-                pageable, company, location, title, tagList);
+        Sort sort = sortDir.equalsIgnoreCase("ASC") 
+                ? Sort.by(sortBy).ascending() 
+                : Sort.by(sortBy).descending();
+        Pageable pageable = PageRequest.of(page, size, sort);
+        
+        PageResponse<JobSummary> response = jobService.getJobSummaries(
+                pageable, company, location, title, tagList, tagMatch, List.of(fields.split(",")), totalMode);
         
         return ResponseEntity.ok(response);
     }
+    
+    /**
+     * Live feed of job changes as server-sent events: job-created, job-updated, job-deleted,
+     * activity, and resync when the client must reload because events were missed.
+     * 
+     * @param lastEventId Sent by EventSource on reconnect; the stream resumes after that event
+     * @return Open event stream, or 503 when the subscriber limit is reached
+     */
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamJobs(
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        
+        SseEmitter emitter = jobEventBroadcaster.subscribe(lastEventId);
+        if (emitter == null) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, "30")
+                    .build();
+        }
+        
+        // Proxies such as nginx buffer responses by default, which would hold events back
+        return ResponseEntity.ok()
+                .header("X-Accel-Buffering", "no")
+                .body(emitter);
+    }
+    
+    private static void checkOffsetPage(int page, int size) {
+        if (page < 0) {
+            throw new IllegalArgumentException("page must be >= 0");
+        }
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("size must be between 1 and " + MAX_PAGE_SIZE);
+        }
+        if ((long) page * size > MAX_OFFSET) {
+            throw new IllegalArgumentException("page * size must be at most " + MAX_OFFSET
+                    + "; use cursor pagination to read further");
+        }
+    }
 }
@@ -0,0 +1,75 @@
+package com.referralnode.controller;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.referralnode.dto.JobRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Synthetic partner feed for local testing of the HTTP ingestion source.
+ * Record n is always the same job, so re-reads are idempotent.
+ */
+@RestController
+@RequestMapping("/api/ingest/stub-feed")
+@ConditionalOnProperty(name = "ingest.stub-feed.enabled", havingValue = "true", matchIfMissing = true)
+@RequiredArgsConstructor
+public class StubFeedController {
+
+    private static final String[] TITLES = {"Senior Java Developer", "React Frontend Engineer", "Full Stack Architect", "DevOps Engineer"};
+    private static final String[] COMPANIES = {"Google", "Amazon", "Netflix", "Startup Inc", "TechFlow"};
+    private static final String[] LOCATIONS = {"Remote", "New York, NY", "San Francisco, CA", "Austin, TX"};
+    // Fixed, so record n is posted at the same instant on every read
+    private static final LocalDateTime FEED_EPOCH = LocalDateTime.of(2024, 1, 1, 0, 0);
+    private static final String DESCRIPTION = "<p>We are looking for a talented engineer to join our team.</p><h3>Requirements:</h3><ul><li>Java 21</li><li>Spring Boot</li><li>React</li></ul>";
+
+    private final ObjectMapper objectMapper;
+
+    @Value("${ingest.stub-feed.size:50}")
+    private long feedSize;
+
+    /**
+     * Records after+1 .. after+limit as NDJSON
+     */
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<String> getFeedPage(
+            @RequestParam(defaultValue = "0") long after,
+            @RequestParam(defaultValue = "100") int limit) throws JsonProcessingException {
+        
+        if (after < 0 || limit < 1 || limit > 1000) {
+            throw new IllegalArgumentException("after must be >= 0 and limit between 1 and 1000");
+        }
+        
+        StringBuilder body = new StringBuilder();
+        for (long n = after + 1; n <= Math.min(feedSize, after + limit); n++) {
+            body.append(objectMapper.writeValueAsString(createStubJob(n))).append('\n');
+        }
+        return ResponseEntity.ok(body.toString());
+    }
+    
+    private static JobRequest createStubJob(long n) {
+        Random rand = new Random(n);
+        
+        return JobRequest.builder()
+                .title(TITLES[rand.nextInt(TITLES.length)])
+                .company(COMPANIES[rand.nextInt(COMPANIES.length)])
+                .location(LOCATIONS[rand.nextInt(LOCATIONS.length)])
+                .description(DESCRIPTION)
+                .salaryRange("$" + (100 + rand.nextInt(50)) + "k - $" + (160 + rand.nextInt(40)) + "k")
+                .postedAt(FEED_EPOCH.plusHours(n))
+                .sourceUrl("https://linkedin.com/jobs/view/" + (100000 + n))
+                .tags(List.of("Java", "Spring Boot", "React", "Remote"))
+                .build();
+    }
+}
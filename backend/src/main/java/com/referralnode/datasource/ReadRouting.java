@@ -0,0 +1,60 @@
+package com.referralnode.datasource;
+
+import java.util.function.Supplier;
+
+/**
+ * Per-thread override that sends read-only transactions to the primary instead of a replica.
+ * <p>
+ * Used where replica lag would be wrong rather than merely stale: reads right after the
+ * caller's own write, and rebuilds of in-memory state that replay change events on top of
+ * a database snapshot. Only connections acquired inside the scope are affected, and the
+ * override does not follow work handed to other threads. Without routing
+ * ({@code datasource.routing.enabled=false}) every connection is a primary connection and
+ * this is a no-op.
+ */
+public final class ReadRouting {
+
+    private static final ThreadLocal<Boolean> PRIMARY = new ThreadLocal<>();
+
+    private ReadRouting() {
+    }
+
+    /**
+     * Restores the previous routing of the thread when closed
+     */
+    public interface Scope extends AutoCloseable {
+        @Override
+        void close();
+    }
+
+    /**
+     * Pin the current thread to the primary until the scope is closed; scopes nest
+     */
+    public static Scope primary() {
+        Boolean previous = PRIMARY.get();
+        PRIMARY.set(Boolean.TRUE);
+        return () -> {
+            if (previous == null) {
+                PRIMARY.remove();
+            } else {
+                PRIMARY.set(previous);
+            }
+        };
+    }
+
+    public static <T> T onPrimary(Supplier<T> work) {
+        try (Scope scope = primary()) {
+            return work.get();
+        }
+    }
+
+    public static void onPrimary(Runnable work) {
+        try (Scope scope = primary()) {
+            work.run();
+        }
+    }
+
+    public static boolean isPrimaryRequired() {
+        return PRIMARY.get() != null;
+    }
+}
@@ -0,0 +1,185 @@
+package com.referralnode.datasource;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Sends connections for read-only transactions ({@code @Transactional(readOnly = true)}) to a
+ * healthy read replica, round robin, and everything else to the primary.
+ * <p>
+ * The read-only flag is only known once the transaction has started, so this must sit behind a
+ * {@code LazyConnectionDataSourceProxy}, which defers fetching the connection to the first statement.
+ * <p>
+ * A replica is healthy while it accepts connections and its replay lag is within the limit.
+ * {@link #checkHealth()} re-evaluates every replica; a failed connection attempt marks one down
+ * immediately and the read falls back to the next replica, then to the primary. Replicas start
+ * down until their first check, so lag is never unknown. {@link ReadRouting} pins a thread to
+ * the primary regardless of the transaction.
+ */
+@Slf4j
+public class ReadWriteRoutingDataSource extends AbstractDataSource implements AutoCloseable {
+
+    // 0 on an idle or caught-up standby (and on a plain primary, for local setups)
+    private static final String LAG_SQL = """
+            SELECT CASE
+                WHEN NOT pg_is_in_recovery() THEN 0
+                WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0
+                ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) * 1000, 0)
+            END""";
+
+    private final DataSource primary;
+    private final List<Replica> replicas;
+    private final long maxLagMillis;
+
+    private final AtomicInteger next = new AtomicInteger();
+    private final LongAdder replicaReads = new LongAdder();
+    private final LongAdder primaryFallbacks = new LongAdder();
+
+    public ReadWriteRoutingDataSource(DataSource primary, List<Replica> replicas, long maxLagMillis) {
+        this.primary = primary;
+        this.replicas = List.copyOf(replicas);
+        this.maxLagMillis = maxLagMillis;
+    }
+
+    /**
+     * A named replica pool and its last known state
+     */
+    public static final class Replica {
+
+        private final String name;
+        private final DataSource dataSource;
+
+        private volatile boolean healthy;
+        private volatile long lagMillis = -1;
+        private volatile String lastError = "not checked yet";
+
+        public Replica(String name, DataSource dataSource) {
+            this.name = name;
+            this.dataSource = dataSource;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public boolean isHealthy() {
+            return healthy;
+        }
+
+        /**
+         * Replay lag at the last check, -1 if unknown
+         */
+        public long getLagMillis() {
+            return lagMillis;
+        }
+
+        public String getLastError() {
+            return lastError;
+        }
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly() || ReadRouting.isPrimaryRequired()) {
+            return primary.getConnection();
+        }
+
+        int start = Math.floorMod(next.getAndIncrement(), Math.max(1, replicas.size()));
+        for (int i = 0; i < replicas.size(); i++) {
+            Replica replica = replicas.get((start + i) % replicas.size());
+            if (!replica.healthy) {
+                continue;
+            }
+            try {
+                Connection connection = replica.dataSource.getConnection();
+                replicaReads.increment();
+                return connection;
+            } catch (SQLException ex) {
+                markDown(replica, ex.getMessage());
+            }
+        }
+        primaryFallbacks.increment();
+        return primary.getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        throw new UnsupportedOperationException("Routed connections use the configured pool credentials");
+    }
+
+    /**
+     * Probe every replica's connectivity and replay lag
+     */
+    public void checkHealth() {
+        for (Replica replica : replicas) {
+            try (Connection connection = replica.dataSource.getConnection();
+                 Statement statement = connection.createStatement();
+                 ResultSet rs = statement.executeQuery(LAG_SQL)) {
+                rs.next();
+                long lag = rs.getLong(1);
+                replica.lagMillis = lag;
+                if (lag > maxLagMillis) {
+                    markDown(replica, "replay lag " + lag + " ms exceeds " + maxLagMillis + " ms");
+                } else {
+                    markUp(replica);
+                }
+            } catch (SQLException ex) {
+                replica.lagMillis = -1;
+                markDown(replica, ex.getMessage());
+            }
+        }
+    }
+
+    public List<Replica> getReplicas() {
+        return replicas;
+    }
+
+    /**
+     * Connections handed out by a replica
+     */
+    public long getReplicaReads() {
+        return replicaReads.sum();
+    }
+
+    /**
+     * Read-only connections served by the primary because no replica was available
+     */
+    public long getPrimaryFallbacks() {
+        return primaryFallbacks.sum();
+    }
+
+    @Override
+    public void close() throws Exception {
+        for (Replica replica : replicas) {
+            if (replica.dataSource instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+    }
+
+    private static void markUp(Replica replica) {
+        if (!replica.healthy) {
+            log.info("Replica {} is healthy, routing reads to it (lag {} ms)", replica.name, replica.lagMillis);
+        }
+        replica.lastError = null;
+        replica.healthy = true;
+    }
+
+    private static void markDown(Replica replica, String reason) {
+        if (replica.healthy) {
+            log.warn("Replica {} marked down, reads fall back: {}", replica.name, reason);
+        }
+        replica.lastError = reason;
+        replica.healthy = false;
+    }
+}
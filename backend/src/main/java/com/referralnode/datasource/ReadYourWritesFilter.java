@@ -0,0 +1,82 @@
+package com.referralnode.datasource;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseCookie;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Set;
+
+/**
+ * Read-your-writes stickiness: after an admin mutation, the same client's requests read from
+ * the primary for a short window, so an edited job never appears to revert because a replica
+ * has not replayed it yet.
+ * <p>
+ * The window is carried by a cookie holding its expiry (epoch millis), so it works across
+ * instances without shared state. The mutating request itself runs pinned as well.
+ */
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+    static final String COOKIE = "rn_primary_until";
+
+    private static final String ADMIN_PATH = "/api/admin/";
+    private static final Set<String> SAFE_METHODS = Set.of("GET", "HEAD", "OPTIONS");
+
+    private final Duration window;
+
+    public ReadYourWritesFilter(Duration window) {
+        this.window = window;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        long now = System.currentTimeMillis();
+        boolean mutation = !SAFE_METHODS.contains(request.getMethod())
+                && request.getRequestURI().startsWith(ADMIN_PATH);
+        if (mutation) {
+            // Set before the chain runs; the response may be committed by the time it returns
+            ResponseCookie cookie = ResponseCookie.from(COOKIE, Long.toString(now + window.toMillis()))
+                    .path("/")
+                    .maxAge(window)
+                    .httpOnly(true)
+                    .sameSite("Lax")
+                    .build();
+            response.addHeader(HttpHeaders.SET_COOKIE, cookie.toString());
+        }
+
+        // An expiry further out than one window was not issued here; ignore it rather than pin forever
+        long until = pinnedUntil(request);
+        boolean pinned = mutation || (until > now && until <= now + window.toMillis());
+        if (!pinned) {
+            chain.doFilter(request, response);
+            return;
+        }
+        try (ReadRouting.Scope scope = ReadRouting.primary()) {
+            chain.doFilter(request, response);
+        }
+    }
+
+    private static long pinnedUntil(HttpServletRequest request) {
+        Cookie[] cookies = request.getCookies();
+        if (cookies == null) {
+            return 0;
+        }
+        for (Cookie cookie : cookies) {
+            if (COOKIE.equals(cookie.getName())) {
+                try {
+                    return Long.parseLong(cookie.getValue());
+                } catch (NumberFormatException ex) {
+                    return 0;
+                }
+            }
+        }
+        return 0;
+    }
+}
@@ -0,0 +1,45 @@
+package com.referralnode.datasource;
+
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Runs the periodic replica checks and reports their results under {@code /actuator/health}.
+ * <p>
+ * Always UP: reads fall back to the primary, so a lagging or unreachable replica degrades
+ * capacity, not availability. The details show which replicas are serving reads.
+ */
+public class ReplicaHealthIndicator implements HealthIndicator {
+
+    private final ReadWriteRoutingDataSource routingDataSource;
+
+    public ReplicaHealthIndicator(ReadWriteRoutingDataSource routingDataSource) {
+        this.routingDataSource = routingDataSource;
+    }
+
+    @Scheduled(fixedDelayString = "${datasource.routing.health-check-interval-ms:5000}")
+    public void check() {
+        routingDataSource.checkHealth();
+    }
+
+    @Override
+    public Health health() {
+        Health.Builder health = Health.up()
+                .withDetail("replicaReads", routingDataSource.getReplicaReads())
+                .withDetail("primaryFallbacks", routingDataSource.getPrimaryFallbacks());
+        for (ReadWriteRoutingDataSource.Replica replica : routingDataSource.getReplicas()) {
+            Map<String, Object> details = new LinkedHashMap<>();
+            details.put("healthy", replica.isHealthy());
+            details.put("lagMs", replica.getLagMillis());
+            if (replica.getLastError() != null) {
+                details.put("error", replica.getLastError());
+            }
+            health.withDetail(replica.getName(), details);
+        }
+        return health.build();
+    }
+}
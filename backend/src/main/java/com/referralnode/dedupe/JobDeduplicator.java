@@ -0,0 +1,240 @@
+package com.referralnode.dedupe;
+
+import com.referralnode.datasource.ReadRouting;
+import com.referralnode.entity.Job;
+import com.referralnode.event.JobChangedEvent;
+import com.referralnode.mapper.JobMapper;
+import com.referralnode.repository.JobRepository;
+import com.referralnode.repository.projection.JobDedupeKey;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.*;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Classifies incoming jobs against stored ones by source URL (the unique key) and
+ * content hash (the fingerprint from {@link JobMapper#contentHash}).
+ * <p>
+ * Bloom filters over both keys sit in front of the database: a negative answer means
+ * the key was never stored, so most new jobs are classified without a query. The
+ * filters are built from the jobs table at startup and rebuilt on a long fixed delay
+ * to shed keys of deleted jobs. Until the first build, every key goes to the database.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class JobDeduplicator {
+
+    private final JobRepository jobRepository;
+    private final JobMapper jobMapper;
+
+    @Value("${dedupe.bloom.expected-insertions:1000000}")
+    private long expectedInsertions;
+
+    @Value("${dedupe.bloom.false-positive-rate:0.01}")
+    private double falsePositiveRate;
+
+    @Value("${ingest.batch.jdbc-batch-size:500}")
+    private int batchSize;
+
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+
+    // null until the first build completes
+    private volatile Filters filters;
+
+    // Filters under construction, so keys recorded during a rebuild are not lost
+    private volatile Filters building;
+
+    public enum Outcome {
+        // Neither the source URL nor the content is stored
+        NEW,
+        // Source URL stored with the same content
+        UNCHANGED,
+        // Source URL stored with different content; apply as an update
+        CHANGED,
+        // Same content under another source URL, or repeated within the batch
+        DUPLICATE
+    }
+
+    /**
+     * Outcome for one job, with the stored job it matched (null for NEW and in-batch repeats)
+     */
+    public record Match(Outcome outcome, JobDedupeKey existing) {
+    }
+
+    // Off the startup thread; classify() goes to the database until the filters exist
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        try {
+            backfillContentHashes();
+        } catch (RuntimeException ex) {
+            log.warn("Failed to backfill content hashes; jobs without one are not matched by content", ex);
+        }
+        rebuild();
+    }
+
+    @Scheduled(
+            initialDelayString = "${dedupe.bloom.rebuild-interval-ms:21600000}",
+            fixedDelayString = "${dedupe.bloom.rebuild-interval-ms:21600000}")
+    public void reconcile() {
+        rebuild();
+    }
+
+    /**
+     * Classify jobs in order; only keys the filters cannot rule out are looked up
+     */
+    public List<Match> classify(List<Job> jobs) {
+        Filters current = filters;
+
+        Set<String> urlLookups = new HashSet<>();
+        for (Job job : jobs) {
+            if (current == null || current.sourceUrls.mightContain(job.getSourceUrl())) {
+                urlLookups.add(job.getSourceUrl());
+            }
+        }
+        Map<String, JobDedupeKey> byUrl = jobRepository.findDedupeKeysBySourceUrls(urlLookups);
+
+        Set<String> hashLookups = new HashSet<>();
+        for (Job job : jobs) {
+            if (!byUrl.containsKey(job.getSourceUrl())
+                    && (current == null || current.contentHashes.mightContain(job.getContentHash()))) {
+                hashLookups.add(job.getContentHash());
+            }
+        }
+        Map<String, JobDedupeKey> byHash = jobRepository.findDedupeKeysByContentHashes(hashLookups);
+
+        Set<String> batchUrls = new HashSet<>();
+        Set<String> batchHashes = new HashSet<>();
+        List<Match> matches = new ArrayList<>(jobs.size());
+        for (Job job : jobs) {
+            boolean firstUrl = batchUrls.add(job.getSourceUrl());
+            boolean firstHash = batchHashes.add(job.getContentHash());
+            JobDedupeKey existing = byUrl.get(job.getSourceUrl());
+            if (!firstUrl) {
+                matches.add(new Match(Outcome.DUPLICATE, null));
+            } else if (existing != null) {
+                matches.add(new Match(Objects.equals(existing.contentHash(), job.getContentHash())
+                        ? Outcome.UNCHANGED
+                        : Outcome.CHANGED, existing));
+            } else if (!firstHash) {
+                matches.add(new Match(Outcome.DUPLICATE, null));
+            } else if (byHash.containsKey(job.getContentHash())) {
+                matches.add(new Match(Outcome.DUPLICATE, byHash.get(job.getContentHash())));
+            } else {
+                matches.add(new Match(Outcome.NEW, null));
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Single-job form of {@link #classify(List)}
+     */
+    public Match classify(Job job) {
+        return classify(List.of(job)).get(0);
+    }
+
+    /**
+     * Record a written job's keys once its transaction has committed, so a rolled-back
+     * write never leaves keys behind
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onJobChanged(JobChangedEvent event) {
+        switch (event.getType()) {
+            case CREATED, UPDATED -> record(event.getJob());
+            case DELETED -> {
+                // Filters cannot forget a key; the periodic rebuild sheds it
+            }
+        }
+    }
+
+    /**
+     * Make a written job's keys visible to the filters
+     */
+    public void record(Job job) {
+        // Building first: once it is cleared, the swapped-in filters already hold everything
+        Filters pending = building;
+        if (pending != null) {
+            pending.add(job.getSourceUrl(), job.getContentHash());
+        }
+        Filters current = filters;
+        if (current != null && current != pending) {
+            current.add(job.getSourceUrl(), job.getContentHash());
+        }
+    }
+
+    /**
+     * Build fresh filters from the jobs table and swap them in
+     */
+    public void rebuild() {
+        if (!rebuildLock.tryLock()) {
+            log.debug("Dedupe filter rebuild already in progress, skipping");
+            return;
+        }
+        // From the primary: keys missing from a lagging snapshot would let duplicates through
+        try (ReadRouting.Scope primary = ReadRouting.primary()) {
+            // Size for growth so the false positive rate holds until the next rebuild
+            long expected = Math.max(expectedInsertions, jobRepository.count() * 2);
+            Filters fresh = new Filters(expected, falsePositiveRate);
+            building = fresh;
+            try {
+                jobRepository.forEachDedupeKey(key -> fresh.add(key.sourceUrl(), key.contentHash()));
+            } catch (RuntimeException ex) {
+                building = null;
+                log.warn("Failed to rebuild dedupe filters, keeping previous filters", ex);
+                return;
+            }
+            filters = fresh;
+            building = null;
+            log.info("Rebuilt dedupe filters sized for {} jobs", expected);
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    // Rows written before content hashes existed
+    private void backfillContentHashes() {
+        long updated = 0;
+        Slice<Job> batch;
+        do {
+            batch = jobRepository.findByContentHashIsNull(PageRequest.of(0, batchSize));
+            batch.forEach(job -> job.setContentHash(jobMapper.contentHash(job)));
+            jobRepository.saveAll(batch.getContent());
+            updated += batch.getNumberOfElements();
+        } while (batch.hasNext());
+        if (updated > 0) {
+            log.info("Backfilled content hashes for {} jobs", updated);
+        }
+    }
+
+    private static final class Filters {
+
+        private final BloomFilter sourceUrls;
+        private final BloomFilter contentHashes;
+
+        Filters(long expectedInsertions, double falsePositiveRate) {
+            this.sourceUrls = new BloomFilter(expectedInsertions, falsePositiveRate);
+            this.contentHashes = new BloomFilter(expectedInsertions, falsePositiveRate);
+        }
+
+        void add(String sourceUrl, String contentHash) {
+            if (sourceUrl != null) {
+                sourceUrls.put(sourceUrl);
+            }
+            if (contentHash != null) {
+                contentHashes.put(contentHash);
+            }
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package com.referralnode.diagnostics;
+
+import com.referralnode.dto.ThreadingStatusResponse.PinnedSite;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Records virtual threads that block while pinned to their carrier, typically inside a
+ * {@code synchronized} block or a native frame, using the JFR {@code jdk.VirtualThreadPinned}
+ * event. Pinned time is attributed to the innermost application frame so hot spots in our
+ * own code stand out from library internals.
+ * <p>
+ * The first pin at each site is logged with its stack; later ones are only counted.
+ */
+@Component
+@Slf4j
+public class VirtualThreadPinningMonitor {
+
+    private static final String EVENT = "jdk.VirtualThreadPinned";
+    private static final String APPLICATION_PACKAGE = "com.referralnode.";
+    private static final int LOGGED_FRAMES = 12;
+
+    @Value("${threads.pinning.monitor.enabled:true}")
+    private boolean enabled;
+
+    @Value("${threads.pinning.monitor.threshold-ms:20}")
+    private long thresholdMillis;
+
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
+    private final Map<String, Site> sites = new ConcurrentHashMap<>();
+    private volatile RecordingStream stream;
+
+    private static final class Site {
+        final LongAdder count = new LongAdder();
+        final LongAdder totalNanos = new LongAdder();
+        final AtomicLong maxNanos = new AtomicLong();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        // Pinning only happens on virtual threads, so platform mode has nothing to record
+        if (!enabled || !virtualThreads) {
+            return;
+        }
+        try {
+            RecordingStream recording = new RecordingStream();
+            recording.enable(EVENT).withThreshold(Duration.ofMillis(thresholdMillis)).withStackTrace();
+            recording.onEvent(EVENT, this::onPinned);
+            recording.startAsync();
+            stream = recording;
+            log.info("Recording virtual thread pinning longer than {} ms", thresholdMillis);
+        } catch (RuntimeException ex) {
+            log.warn("JFR is unavailable, virtual thread pinning will not be recorded", ex);
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        RecordingStream recording = stream;
+        if (recording != null) {
+            recording.close();
+        }
+    }
+
+    public boolean isRecording() {
+        return stream != null;
+    }
+
+    public long getThresholdMillis() {
+        return thresholdMillis;
+    }
+
+    /**
+     * Pinned sites, longest total pinned time first
+     */
+    public List<PinnedSite> sites() {
+        return sites.entrySet().stream()
+                .map(entry -> PinnedSite.builder()
+                        .frame(entry.getKey())
+                        .count(entry.getValue().count.sum())
+                        .totalMillis(entry.getValue().totalNanos.sum() / 1_000_000.0)
+                        .maxMillis(entry.getValue().maxNanos.get() / 1_000_000.0)
+                        .build())
+                .sorted(Comparator.comparingDouble(PinnedSite::getTotalMillis).reversed())
+                .toList();
+    }
+
+    private void onPinned(RecordedEvent event) {
+        RecordedStackTrace stackTrace = event.getStackTrace();
+        List<RecordedFrame> frames = stackTrace == null ? List.of() : stackTrace.getFrames();
+        long nanos = event.getDuration().toNanos();
+
+        String frame = siteOf(frames);
+        Site site = sites.computeIfAbsent(frame, key -> new Site());
+        site.count.increment();
+        site.totalNanos.add(nanos);
+        site.maxNanos.accumulateAndGet(nanos, Math::max);
+
+        if (site.count.sum() == 1) {
+            log.warn("Virtual thread pinned for {} ms at {}{}", nanos / 1_000_000, frame, format(frames));
+        }
+    }
+
+    // Innermost frame in our own code, or the top frame when the pin is entirely inside a library
+    private static String siteOf(List<RecordedFrame> frames) {
+        for (RecordedFrame frame : frames) {
+            if (frame.getMethod().getType().getName().startsWith(APPLICATION_PACKAGE)) {
+                return describe(frame);
+            }
+        }
+        return frames.isEmpty() ? "unknown" : describe(frames.get(0));
+    }
+
+    private static String describe(RecordedFrame frame) {
+        return frame.getMethod().getType().getName() + "." + frame.getMethod().getName()
+                + ":" + frame.getLineNumber();
+    }
+
+    private static String format(List<RecordedFrame> frames) {
+        StringBuilder trace = new StringBuilder();
+        frames.stream().limit(LOGGED_FRAMES).forEach(frame -> trace.append("\n\tat ").append(describe(frame)));
+        return trace.toString();
+    }
+}
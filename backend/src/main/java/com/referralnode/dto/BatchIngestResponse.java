@@ -0,0 +1,46 @@
+package com.referralnode.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BatchIngestResponse {
+    
+    private int received;
+    private int created;
+    private int updated;
+    private int duplicates;
+    private int invalid;
+    private int failed;
+    
+    // false if reading stopped early (malformed input or item limit); error says why
+    private boolean complete;
+    private String error;
+    
+    private List<ItemResult> items;
+    
+    public enum Status {
+        CREATED, UPDATED, DUPLICATE, INVALID, FAILED
+    }
+    
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    @JsonInclude(JsonInclude.Include.NON_EMPTY)
+    public static class ItemResult {
+        private int index;
+        private UUID id;
+        private Status status;
+        private List<String> errors;
+    }
+}
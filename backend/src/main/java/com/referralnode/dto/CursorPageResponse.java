@@ -0,0 +1,22 @@
+package com.referralnode.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CursorPageResponse<T> {
+    
+    private List<T> content;
+    private int pageSize;
+    
+    // Opaque token for the next page; null on the last page
+    private String nextCursor;
+    private boolean last;
+}
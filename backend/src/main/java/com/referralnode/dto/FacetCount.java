@@ -0,0 +1,19 @@
+package com.referralnode.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Number of matching jobs with one facet value, e.g. location "Remote" (1204)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class FacetCount {
+    
+    private String value;
+    private long count;
+}
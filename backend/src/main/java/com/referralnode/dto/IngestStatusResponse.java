@@ -0,0 +1,48 @@
+package com.referralnode.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class IngestStatusResponse {
+    
+    private boolean running;
+    private long runs;
+    private LocalDateTime lastRunStartedAt;
+    private LocalDateTime lastRunFinishedAt;
+    private String lastRunError;
+    private List<String> sources;
+    
+    // Source name -> position of the last written record
+    private Map<String, String> checkpoints;
+    
+    private List<StageStatus> stages;
+    
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class StageStatus {
+        private String name;
+        private long processed;
+        private long skipped;
+        private long failed;
+        
+        // Items per second of pipeline running time, and the share of that time the stage was busy
+        private double throughputPerSecond;
+        private double utilization;
+        
+        // Items waiting in the stage's input queue
+        private int queueDepth;
+        private int queueCapacity;
+    }
+}
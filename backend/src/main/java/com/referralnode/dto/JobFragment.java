@@ -0,0 +1,62 @@
+package com.referralnode.dto;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.core.json.JsonGeneratorImpl;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+
+/**
+ * A job's response JSON, serialized once from a {@link JobResponse} and written into listing
+ * bodies as is. On a JSON response the UTF-8 bytes are copied straight into the output buffer;
+ * CBOR and Smile responses replay the JSON tokens instead, which gives the same document.
+ */
+@JsonSerialize(using = JobFragment.Serializer.class)
+public final class JobFragment {
+
+    private final SerializedString json;
+
+    public JobFragment(String json) {
+        this.json = new SerializedString(json);
+        // Encode now, so every write is a plain byte copy
+        this.json.asUnquotedUTF8();
+    }
+
+    /**
+     * Length of the JSON in bytes
+     */
+    public int size() {
+        return json.asUnquotedUTF8().length;
+    }
+
+    @Override
+    public String toString() {
+        return json.getValue();
+    }
+
+    public static class Serializer extends StdSerializer<JobFragment> {
+
+        private static final JsonFactory JSON = new JsonFactory();
+
+        public Serializer() {
+            super(JobFragment.class);
+        }
+
+        @Override
+        public void serialize(JobFragment fragment, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            if (gen instanceof JsonGeneratorImpl) {
+                gen.writeRawValue(fragment.json);
+                return;
+            }
+            try (JsonParser parser = JSON.createParser(fragment.json.asUnquotedUTF8())) {
+                parser.nextToken();
+                gen.copyCurrentStructure(parser);
+            }
+        }
+    }
+}
@@ -10,6 +10,7 @@ import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.UUID;
 
 @Data
 @NoArgsConstructor
@@ -17,6 +18,9 @@ import java.util.List;
 @Builder
 public class JobRequest {
     
+    // Optional client-generated id, honored only by batch ingestion
+    private UUID id;
+    
     @NotBlank(message = "Title is required")
     private String title;
     
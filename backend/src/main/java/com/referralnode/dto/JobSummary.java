@@ -0,0 +1,67 @@
+package com.referralnode.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Listing view of a job: the card columns plus a precomputed plain-text preview,
+ * never the full description. Fields not selected with {@code fields=} are omitted.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class JobSummary {
+
+    // Selectable fields, in response order; id is always included
+    public static final List<String> FIELDS = List.of(
+            "id", "title", "company", "location", "salaryRange", "postedAt",
+            "sourceUrl", "tags", "createdAt", "updatedAt", "descriptionPreview");
+
+    private UUID id;
+    private String title;
+    private String company;
+    private String location;
+    private String salaryRange;
+    private LocalDateTime postedAt;
+    private String sourceUrl;
+    private List<String> tags;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+    private String descriptionPreview;
+
+    /**
+     * Validate a requested field list, defaulting to every summary field
+     */
+    public static List<String> resolveFields(List<String> requested) {
+        List<String> wanted = requested == null ? List.of() : requested.stream()
+                .map(String::trim)
+                .filter(field -> !field.isEmpty())
+                .toList();
+        if (wanted.isEmpty()) {
+            return FIELDS;
+        }
+
+        for (String field : wanted) {
+            if (!FIELDS.contains(field)) {
+                throw new IllegalArgumentException("Unknown field '" + field + "', expected one of " + FIELDS);
+            }
+        }
+        List<String> resolved = new ArrayList<>();
+        for (String field : FIELDS) {
+            if (field.equals("id") || wanted.contains(field)) {
+                resolved.add(field);
+            }
+        }
+        return resolved;
+    }
+}
@@ -1,11 +1,13 @@
 package com.referralnode.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
 import java.util.List;
+import java.util.Map;
 
 @Data
 @NoArgsConstructor
@@ -20,4 +22,11 @@ public class PageResponse<T> {
     private int totalPages;
     private boolean first;
     private boolean last;
+    
+    // "exact", "approx" or "none" (totals are -1 when not counted)
+    private String totalMode;
+    
+    // Top values per requested facet ("company", "location", "tags"); omitted unless facets were requested
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Map<String, List<FacetCount>> facets;
 }
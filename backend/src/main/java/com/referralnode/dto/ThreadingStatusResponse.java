@@ -0,0 +1,36 @@
+package com.referralnode.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ThreadingStatusResponse {
+    
+    // spring.threads.virtual.enabled, and what the thread serving this request actually is
+    private boolean virtualThreadsEnabled;
+    private boolean requestThreadVirtual;
+    private String requestThread;
+    
+    private boolean pinningRecorded;
+    private long pinningThresholdMillis;
+    private List<PinnedSite> pinnedSites;
+    
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class PinnedSite {
+        // Innermost application frame (class.method:line) that held the carrier
+        private String frame;
+        private long count;
+        private double totalMillis;
+        private double maxMillis;
+    }
+}
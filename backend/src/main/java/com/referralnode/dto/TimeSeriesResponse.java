@@ -0,0 +1,40 @@
+package com.referralnode.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TimeSeriesResponse {
+    
+    private String granularity; // "HOUR", "DAY", "WEEK"
+    private String breakdown;   // "NONE", "COMPANY", "LOCATION"
+    private LocalDateTime from;
+    private LocalDateTime to;
+    
+    // Start of each bucket, aligned to the granularity
+    private List<LocalDateTime> buckets;
+    
+    // Postings per bucket across all jobs
+    private long[] totals;
+    
+    // Per-company or per-location postings, ordered by descending total
+    private List<Series> series;
+    
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Series {
+        private String key;
+        private Long total;
+        private long[] counts;
+    }
+}
@@ -0,0 +1,28 @@
+package com.referralnode.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Position of the last record from an ingestion source that has been written
+ */
+@Entity
+@Table(name = "ingest_checkpoints")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class IngestCheckpoint {
+
+    @Id
+    @Column(name = "source", length = 100)
+    private String source;
+
+    @Column(name = "position", columnDefinition = "TEXT", nullable = false)
+    private String position;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
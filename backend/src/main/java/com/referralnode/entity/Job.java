@@ -1,6 +1,7 @@
 package com.referralnode.entity;
 
 import jakarta.persistence.*;
+import com.referralnode.util.CategoryDictionary;
 import lombok.*;
 import org.hibernate.annotations.JdbcTypeCode;
 import org.hibernate.type.SqlTypes;
@@ -10,7 +11,8 @@ import java.util.List;
 import java.util.UUID;
 
 @Entity
-@Table(name = "jobs")
+// ddl-auto=update creates the source URL key too; it skips an index of that name made by schema.sql
+@Table(name = "jobs", uniqueConstraints = @UniqueConstraint(name = "uq_jobs_source_url", columnNames = "source_url"))
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -32,15 +34,24 @@ public class Job {
     @Column(columnDefinition = "TEXT", nullable = false)
     private String description;
 
+    // Plain-text excerpt computed at write time so listings never load the description
+    @Column(name = "description_preview", length = 300)
+    private String descriptionPreview;
+
     @Column(name = "salary_range")
     private String salaryRange;
 
     @Column(name = "posted_at", nullable = false)
     private LocalDateTime postedAt;
 
+    // Unique (uq_jobs_source_url); schema.sql first renames duplicates left by older versions
     @Column(name = "source_url", nullable = false)
     private String sourceUrl;
 
+    // SHA-256 of the normalized content, see JobMapper; equal hashes mean the same posting
+    @Column(name = "content_hash", length = 64)
+    private String contentHash;
+
     @JdbcTypeCode(SqlTypes.ARRAY)
     @Column(name = "tags")
     private List<String> tags;
@@ -48,4 +59,15 @@ public class Job {
     @Column(name = "created_at")
     @Builder.Default
     private LocalDateTime createdAt = LocalDateTime.now();
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    // Share one String per distinct company, location and tag across all loaded jobs (see CategoryDictionary)
+    @PostLoad
+    void canonicalizeCategories() {
+        company = CategoryDictionary.canonical(company);
+        location = CategoryDictionary.canonical(location);
+        tags = CategoryDictionary.canonicalAll(tags);
+    }
 }
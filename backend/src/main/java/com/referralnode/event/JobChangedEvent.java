@@ -0,0 +1,42 @@
+package com.referralnode.event;
+
+import com.referralnode.entity.Job;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.UUID;
+
+/**
+ * Application event published by the write path whenever a job is created,
+ * updated or deleted. Listeners that keep in-memory derived state (rollups,
+ * caches, indexes) subscribe to this instead of re-reading the jobs table.
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class JobChangedEvent {
+
+    public enum Type {
+        CREATED,
+        UPDATED,
+        DELETED
+    }
+
+    private final Type type;
+    private final UUID jobId;
+
+    // Saved entity state; null for DELETED events
+    private final Job job;
+
+    public static JobChangedEvent created(Job job) {
+        return new JobChangedEvent(Type.CREATED, job.getId(), job);
+    }
+
+    public static JobChangedEvent updated(Job job) {
+        return new JobChangedEvent(Type.UPDATED, job.getId(), job);
+    }
+
+    public static JobChangedEvent deleted(UUID jobId) {
+        return new JobChangedEvent(Type.DELETED, jobId, null);
+    }
+}
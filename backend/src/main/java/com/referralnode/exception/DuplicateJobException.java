@@ -0,0 +1,8 @@
+package com.referralnode.exception;
+
+public class DuplicateJobException extends RuntimeException {
+    
+    public DuplicateJobException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,82 @@
+package com.referralnode.ingest;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Reads NDJSON files (*.ndjson, *.jsonl) from a directory in file name order.
+ * Positions are {@code <file>:<line>}, so files may keep growing and new files
+ * sorting after the checkpoint are picked up on the next run.
+ */
+@Component
+@ConditionalOnProperty(name = "ingest.sources.directory.enabled", havingValue = "true")
+@Slf4j
+public class DirectoryJobSource implements JobSource {
+
+    private final Path directory;
+
+    public DirectoryJobSource(@Value("${ingest.sources.directory.path:./ingest}") String directory) {
+        this.directory = Path.of(directory);
+    }
+
+    @Override
+    public String getName() {
+        return "directory";
+    }
+
+    @Override
+    public void read(String checkpoint, Emitter emitter) throws IOException, InterruptedException {
+        if (!Files.isDirectory(directory)) {
+            log.warn("Ingest directory {} does not exist", directory.toAbsolutePath());
+            return;
+        }
+
+        String checkpointFile = null;
+        long checkpointLine = 0;
+        if (checkpoint != null) {
+            int separator = checkpoint.lastIndexOf(':');
+            checkpointFile = checkpoint.substring(0, separator);
+            checkpointLine = Long.parseLong(checkpoint.substring(separator + 1));
+        }
+
+        List<Path> files;
+        try (Stream<Path> listing = Files.list(directory)) {
+            files = listing
+                    .filter(Files::isRegularFile)
+                    .filter(file -> file.getFileName().toString().endsWith(".ndjson")
+                            || file.getFileName().toString().endsWith(".jsonl"))
+                    .sorted()
+                    .toList();
+        }
+
+        for (Path file : files) {
+            String name = file.getFileName().toString();
+            if (checkpointFile != null && name.compareTo(checkpointFile) < 0) {
+                continue;
+            }
+            long skip = name.equals(checkpointFile) ? checkpointLine : 0;
+
+            try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+                long lineNumber = 0;
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    lineNumber++;
+                    if (lineNumber <= skip || line.isBlank()) {
+                        continue;
+                    }
+                    emitter.emit(line, name + ":" + lineNumber);
+                }
+            }
+        }
+    }
+}
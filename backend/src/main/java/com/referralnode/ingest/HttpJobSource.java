@@ -0,0 +1,72 @@
+package com.referralnode.ingest;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Pages through an HTTP feed that serves NDJSON for {@code GET <url>?after=<n>&limit=<m>},
+ * where {@code after} counts the records already consumed. Positions are record counts.
+ * The bundled stub feed ({@code /api/ingest/stub-feed}) speaks this protocol for local testing.
+ */
+@Component
+@ConditionalOnProperty(name = "ingest.sources.http.enabled", havingValue = "true", matchIfMissing = true)
+public class HttpJobSource implements JobSource {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(30);
+
+    private final HttpClient client = HttpClient.newBuilder()
+            .connectTimeout(TIMEOUT)
+            .build();
+
+    @Value("${ingest.sources.http.url:http://localhost:8080/api/ingest/stub-feed}")
+    private String url;
+
+    @Value("${ingest.sources.http.page-size:100}")
+    private int pageSize;
+
+    @Override
+    public String getName() {
+        return "http";
+    }
+
+    @Override
+    public void read(String checkpoint, Emitter emitter) throws IOException, InterruptedException {
+        long after = checkpoint == null ? 0 : Long.parseLong(checkpoint);
+        int received;
+        do {
+            HttpRequest request = HttpRequest.newBuilder(URI.create(url + "?after=" + after + "&limit=" + pageSize))
+                    .timeout(TIMEOUT)
+                    .header("Accept", "application/x-ndjson")
+                    .GET()
+                    .build();
+            HttpResponse<Stream<String>> response = client.send(request, HttpResponse.BodyHandlers.ofLines());
+
+            try (Stream<String> lines = response.body()) {
+                if (response.statusCode() != 200) {
+                    throw new IOException("Feed " + url + " returned HTTP " + response.statusCode());
+                }
+                received = 0;
+                Iterator<String> iterator = lines.iterator();
+                while (iterator.hasNext()) {
+                    String line = iterator.next();
+                    if (line.isBlank()) {
+                        continue;
+                    }
+                    after++;
+                    received++;
+                    emitter.emit(line, Long.toString(after));
+                }
+            }
+        } while (received == pageSize);
+    }
+}
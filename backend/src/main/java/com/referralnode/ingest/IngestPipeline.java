@@ -0,0 +1,374 @@
+package com.referralnode.ingest;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.referralnode.datasource.ReadRouting;
+import com.referralnode.dedupe.JobDeduplicator;
+import com.referralnode.dto.IngestStatusResponse;
+import com.referralnode.dto.JobRequest;
+import com.referralnode.entity.IngestCheckpoint;
+import com.referralnode.entity.Job;
+import com.referralnode.event.JobChangedEvent;
+import com.referralnode.mapper.JobMapper;
+import com.referralnode.repository.IngestCheckpointRepository;
+import com.referralnode.util.TagNormalizer;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+
+/**
+ * Pulls job records from every {@link JobSource} through a chain of stages:
+ * <pre>
+ *   sources -> parse -> normalize -> sanitize -> dedupe -> write
+ * </pre>
+ * The writer classifies each batch with {@link JobDeduplicator}: new postings are
+ * inserted, postings whose source URL is stored with different content are updated in
+ * place, and unchanged or duplicate content is skipped.
+ * Each stage runs on its own virtual thread and hands records on through a bounded
+ * queue, so the slowest stage sets the pace and memory stays bounded. The writer inserts
+ * JDBC batches and saves each source's checkpoint in the same transaction; the next run
+ * resumes from there. A failed write aborts the run and nothing past the last committed
+ * batch is checkpointed.
+ */
+@Component
+@Slf4j
+public class IngestPipeline {
+
+    private static final long FLUSH_INTERVAL_MS = 200;
+
+    private final List<JobSource> sources;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final JobMapper jobMapper;
+    private final JobDeduplicator jobDeduplicator;
+    private final IngestCheckpointRepository checkpointRepository;
+    private final IngestWriter ingestWriter;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final boolean scheduled;
+    private final int batchSize;
+
+    // queues.get(i) feeds the (i + 1)th stage; the last one feeds the writer
+    private final List<BlockingQueue<PipelineItem>> queues = new ArrayList<>();
+    private final Map<String, StageMetrics> metrics = new LinkedHashMap<>();
+
+    // Source URL and content hash of recent records; only touched by the dedupe stage, runs are serialized by runLock
+    private final Map<String, Boolean> recentRecords;
+
+    private final ReentrantLock runLock = new ReentrantLock();
+    private volatile long runStartedNanos;
+    private volatile long activeNanos;
+    private volatile long runs;
+    private volatile LocalDateTime lastRunStartedAt;
+    private volatile LocalDateTime lastRunFinishedAt;
+    private volatile String lastRunError;
+
+    public IngestPipeline(
+            ObjectProvider<JobSource> sources,
+            ObjectMapper objectMapper,
+            Validator validator,
+            JobMapper jobMapper,
+            JobDeduplicator jobDeduplicator,
+            IngestCheckpointRepository checkpointRepository,
+            IngestWriter ingestWriter,
+            ApplicationEventPublisher eventPublisher,
+            @Value("${ingest.pipeline.enabled:true}") boolean scheduled,
+            @Value("${ingest.pipeline.queue-capacity:1024}") int queueCapacity,
+            @Value("${ingest.pipeline.batch-size:500}") int batchSize,
+            @Value("${ingest.pipeline.dedupe-window:100000}") int dedupeWindow) {
+        this.sources = sources.orderedStream().toList();
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+        this.jobMapper = jobMapper;
+        this.jobDeduplicator = jobDeduplicator;
+        this.checkpointRepository = checkpointRepository;
+        this.ingestWriter = ingestWriter;
+        this.eventPublisher = eventPublisher;
+        this.scheduled = scheduled;
+        this.batchSize = batchSize;
+
+        metrics.put("read", new StageMetrics("read", null));
+        for (String stage : List.of("parse", "normalize", "sanitize", "dedupe", "write")) {
+            BlockingQueue<PipelineItem> queue = new ArrayBlockingQueue<>(queueCapacity);
+            queues.add(queue);
+            metrics.put(stage, new StageMetrics(stage, queue));
+        }
+
+        this.recentRecords = new LinkedHashMap<>(1024, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Boolean> eldest) {
+                return size() > dedupeWindow;
+            }
+        };
+    }
+
+    @Scheduled(
+            initialDelayString = "${ingest.pipeline.initial-delay-ms:10000}",
+            fixedDelayString = "${ingest.pipeline.poll-interval-ms:60000}")
+    public void poll() {
+        if (scheduled) {
+            runOnce();
+        }
+    }
+
+    /**
+     * Start a run in the background
+     * @return false if a run is already in progress
+     */
+    public boolean trigger() {
+        if (runLock.isLocked()) {
+            return false;
+        }
+        Thread.ofVirtual().name("ingest-trigger").start(this::runOnce);
+        return true;
+    }
+
+    /**
+     * Drain every source up to its current end, unless a run is already in progress
+     */
+    public void runOnce() {
+        if (!runLock.tryLock()) {
+            log.debug("Ingestion run already in progress, skipping");
+            return;
+        }
+        try {
+            lastRunStartedAt = LocalDateTime.now();
+            runStartedNanos = System.nanoTime();
+            lastRunError = null;
+            queues.forEach(BlockingQueue::clear);
+            try {
+                execute();
+            } catch (Exception ex) {
+                lastRunError = ex.getMessage();
+                // Records held back as duplicates may never have been written
+                recentRecords.clear();
+                log.error("Ingestion run failed", ex);
+            } finally {
+                activeNanos += System.nanoTime() - runStartedNanos;
+                runStartedNanos = 0;
+                runs++;
+                lastRunFinishedAt = LocalDateTime.now();
+            }
+        } finally {
+            runLock.unlock();
+        }
+    }
+
+    private void execute() throws InterruptedException, ExecutionException {
+        Map<String, String> checkpoints = loadCheckpoints();
+        BlockingQueue<PipelineItem> raw = queues.get(0);
+
+        ThreadFactory threads = Thread.ofVirtual().name("ingest-", 0).factory();
+        try (ExecutorService executor = Executors.newThreadPerTaskExecutor(threads)) {
+            try {
+                List<Future<?>> reads = sources.stream()
+                        .<Future<?>>map(source -> executor.submit(() -> read(source, checkpoints.get(source.getName()), raw)))
+                        .toList();
+                executor.submit(() -> {
+                    for (Future<?> read : reads) {
+                        read.get();
+                    }
+                    raw.put(PipelineItem.END);
+                    return null;
+                });
+
+                executor.submit(new Stage(queues.get(0), queues.get(1), this::parse, metrics.get("parse")));
+                executor.submit(new Stage(queues.get(1), queues.get(2), this::normalize, metrics.get("normalize")));
+                executor.submit(new Stage(queues.get(2), queues.get(3), this::sanitize, metrics.get("sanitize")));
+                executor.submit(new Stage(queues.get(3), queues.get(4), this::dedupe, metrics.get("dedupe")));
+
+                executor.submit(() -> {
+                    write(queues.get(4));
+                    return null;
+                }).get();
+            } finally {
+                // Unblocks any stage still waiting on a queue if the writer failed
+                executor.shutdownNow();
+            }
+        }
+    }
+
+    // From the primary: a replica could still hold the previous run's checkpoints
+    private Map<String, String> loadCheckpoints() {
+        return ReadRouting.onPrimary(() -> checkpointRepository.findAll()).stream()
+                .collect(Collectors.toMap(IngestCheckpoint::getSource, IngestCheckpoint::getPosition));
+    }
+
+    // A failing source is logged and skipped; records it already emitted are still written
+    private void read(JobSource source, String checkpoint, BlockingQueue<PipelineItem> output) {
+        StageMetrics read = metrics.get("read");
+        try {
+            source.read(checkpoint, (payload, position) -> {
+                PipelineItem item = new PipelineItem(source.getName(), position, payload);
+                long start = System.nanoTime();
+                output.put(item);
+                read.record(item, false, System.nanoTime() - start);
+            });
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        } catch (Exception ex) {
+            log.warn("Ingestion source {} failed after checkpoint {}", source.getName(), checkpoint, ex);
+        }
+    }
+
+    private void parse(PipelineItem item) {
+        try {
+            item.setRequest(objectMapper.readValue(item.getPayload(), JobRequest.class));
+        } catch (JsonProcessingException ex) {
+            item.skip("Malformed record: " + ex.getOriginalMessage());
+        }
+    }
+
+    private void normalize(PipelineItem item) {
+        JobRequest request = item.getRequest();
+        if (request == null) {
+            item.skip("Empty record");
+            return;
+        }
+        request.setTitle(trim(request.getTitle()));
+        request.setCompany(trim(request.getCompany()));
+        request.setLocation(trim(request.getLocation()));
+        request.setSalaryRange(trim(request.getSalaryRange()));
+        request.setSourceUrl(trim(request.getSourceUrl()));
+        request.setTags(TagNormalizer.normalize(request.getTags()));
+
+        Set<ConstraintViolation<JobRequest>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            item.skip(violations.stream()
+                    .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                    .sorted()
+                    .collect(Collectors.joining(", ")));
+        }
+    }
+
+    private void sanitize(PipelineItem item) {
+        JobRequest request = item.getRequest();
+        Job job = jobMapper.toEntity(request);
+        job.setId(request.getId() != null ? request.getId() : UUID.randomUUID());
+        item.setJob(job);
+    }
+
+    // Cheap in-stream check for exact re-sends; the writer classifies the rest against the table
+    private void dedupe(PipelineItem item) {
+        String key = item.getJob().getSourceUrl() + '\n' + item.getJob().getContentHash();
+        if (recentRecords.put(key, Boolean.TRUE) != null) {
+            item.skip("Duplicate record");
+        }
+    }
+
+    // Flushes when a batch fills up or the input goes quiet
+    private void write(BlockingQueue<PipelineItem> input) throws InterruptedException {
+        List<PipelineItem> batch = new ArrayList<>(batchSize);
+        while (true) {
+            PipelineItem item = input.poll(FLUSH_INTERVAL_MS, TimeUnit.MILLISECONDS);
+            if (item == PipelineItem.END) {
+                flush(batch);
+                return;
+            }
+            if (item != null) {
+                batch.add(item);
+            }
+            if (batch.size() >= batchSize || (item == null && !batch.isEmpty())) {
+                flush(batch);
+                batch.clear();
+            }
+        }
+    }
+
+    private void flush(List<PipelineItem> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        StageMetrics write = metrics.get("write");
+        long start = System.nanoTime();
+
+        List<PipelineItem> live = batch.stream().filter(item -> !item.isSkipped()).toList();
+        List<JobDeduplicator.Match> matches = jobDeduplicator.classify(live.stream().map(PipelineItem::getJob).toList());
+        List<PipelineItem> created = new ArrayList<>();
+        List<Job> inserts = new ArrayList<>();
+        List<Job> updates = new ArrayList<>();
+        for (int i = 0; i < live.size(); i++) {
+            PipelineItem item = live.get(i);
+            JobDeduplicator.Match match = matches.get(i);
+            switch (match.outcome()) {
+                case NEW -> {
+                    created.add(item);
+                    inserts.add(item.getJob());
+                }
+                case CHANGED -> {
+                    item.getJob().setId(match.existing().id());
+                    item.getJob().setCreatedAt(match.existing().createdAt());
+                    updates.add(item.getJob());
+                }
+                case UNCHANGED -> item.skip("Unchanged");
+                case DUPLICATE -> item.skip("Duplicate content");
+            }
+        }
+
+        // Batch order is feed order, so the last position per source covers everything before it
+        Map<String, String> checkpoints = new LinkedHashMap<>();
+        batch.forEach(item -> checkpoints.put(item.getSource(), item.getPosition()));
+
+        // A row whose id or source URL was taken since classify is skipped by the insert
+        Set<UUID> inserted = ingestWriter.write(inserts, updates, checkpoints);
+        created.stream()
+                .filter(item -> !inserted.contains(item.getJob().getId()))
+                .forEach(item -> item.skip("Duplicate record"));
+        inserts.removeIf(job -> !inserted.contains(job.getId()));
+        batch.forEach(item -> write.record(item, false, 0));
+        write.addBusyNanos(System.nanoTime() - start);
+
+        inserts.forEach(job -> eventPublisher.publishEvent(JobChangedEvent.created(job)));
+        updates.forEach(job -> eventPublisher.publishEvent(JobChangedEvent.updated(job)));
+        log.debug("Ingested {} new and {} updated of {} records, checkpoints {}",
+                inserts.size(), updates.size(), batch.size(), checkpoints);
+    }
+
+    private static String trim(String value) {
+        return value == null ? null : value.trim();
+    }
+
+    /**
+     * Per-stage counters, queue depths and source checkpoints
+     */
+    public IngestStatusResponse status() {
+        long started = runStartedNanos;
+        long active = activeNanos + (started == 0 ? 0 : System.nanoTime() - started);
+        double seconds = active / 1e9;
+
+        List<IngestStatusResponse.StageStatus> stages = metrics.values().stream()
+                .map(stage -> IngestStatusResponse.StageStatus.builder()
+                        .name(stage.getName())
+                        .processed(stage.processed())
+                        .skipped(stage.skipped())
+                        .failed(stage.failed())
+                        .throughputPerSecond(seconds > 0 ? stage.processed() / seconds : 0)
+                        .utilization(active > 0 ? Math.min(1.0, (double) stage.busyNanos() / active) : 0)
+                        .queueDepth(stage.queueDepth())
+                        .queueCapacity(stage.queueCapacity())
+                        .build())
+                .toList();
+
+        return IngestStatusResponse.builder()
+                .running(runLock.isLocked())
+                .runs(runs)
+                .lastRunStartedAt(lastRunStartedAt)
+                .lastRunFinishedAt(lastRunFinishedAt)
+                .lastRunError(lastRunError)
+                .sources(sources.stream().map(JobSource::getName).toList())
+                .checkpoints(new TreeMap<>(loadCheckpoints()))
+                .stages(stages)
+                .build();
+    }
+}
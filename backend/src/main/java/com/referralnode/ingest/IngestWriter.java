@@ -0,0 +1,40 @@
+package com.referralnode.ingest;
+
+import com.referralnode.entity.IngestCheckpoint;
+import com.referralnode.entity.Job;
+import com.referralnode.repository.IngestCheckpointRepository;
+import com.referralnode.repository.JobRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Writes a pipeline batch and the checkpoints it reaches atomically, so a crash
+ * never skips records and a restart re-reads at most one batch
+ */
+@Component
+@RequiredArgsConstructor
+class IngestWriter {
+
+    private final JobRepository jobRepository;
+    private final IngestCheckpointRepository checkpointRepository;
+
+    /**
+     * @return ids of the jobs actually inserted
+     */
+    @Transactional
+    public Set<UUID> write(List<Job> inserts, List<Job> updates, Map<String, String> checkpoints) {
+        Set<UUID> inserted = jobRepository.writeAll(inserts, updates);
+        LocalDateTime now = LocalDateTime.now();
+        checkpointRepository.saveAll(checkpoints.entrySet().stream()
+                .map(entry -> new IngestCheckpoint(entry.getKey(), entry.getValue(), now))
+                .toList());
+        return inserted;
+    }
+}
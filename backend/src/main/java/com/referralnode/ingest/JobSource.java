@@ -0,0 +1,31 @@
+package com.referralnode.ingest;
+
+import java.io.IOException;
+
+/**
+ * A feed of raw job records for the {@link IngestPipeline}.
+ * <p>
+ * Implementations are Spring beans. Each run, the pipeline asks every source for the
+ * records after its last checkpoint. Records must be emitted in feed order, each with
+ * the position a later run can resume after. {@link Emitter#emit} blocks while the
+ * pipeline is saturated, which is how back-pressure reaches the source.
+ */
+public interface JobSource {
+
+    /**
+     * Stable name, used as the checkpoint key
+     */
+    String getName();
+
+    /**
+     * Emit the records that follow the checkpoint
+     * @param checkpoint Position of the last record written, or null if the source was never read
+     * @param emitter Receives each record as a JSON {@code JobRequest} and its position
+     */
+    void read(String checkpoint, Emitter emitter) throws IOException, InterruptedException;
+
+    @FunctionalInterface
+    interface Emitter {
+        void emit(String payload, String position) throws InterruptedException;
+    }
+}
@@ -0,0 +1,40 @@
+package com.referralnode.ingest;
+
+import com.referralnode.dto.JobRequest;
+import com.referralnode.entity.Job;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * One record moving through the pipeline. Each stage fills in the next representation;
+ * skipped records keep flowing so the writer can still advance their source's checkpoint.
+ */
+@Getter
+@Setter
+final class PipelineItem {
+
+    // Marks the end of input; every stage forwards it and then stops
+    static final PipelineItem END = new PipelineItem(null, null, null);
+
+    private final String source;
+    private final String position;
+    private final String payload;
+
+    private JobRequest request;
+    private Job job;
+    private String skipReason;
+
+    PipelineItem(String source, String position, String payload) {
+        this.source = source;
+        this.position = position;
+        this.payload = payload;
+    }
+
+    void skip(String reason) {
+        this.skipReason = reason;
+    }
+
+    boolean isSkipped() {
+        return skipReason != null;
+    }
+}
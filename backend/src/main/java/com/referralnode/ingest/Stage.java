@@ -0,0 +1,59 @@
+package com.referralnode.ingest;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.BlockingQueue;
+import java.util.function.Consumer;
+
+/**
+ * A single-threaded pipeline step between two bounded queues. {@code put} blocks when the
+ * next stage falls behind, so a slow stage throttles everything upstream of it.
+ */
+@Slf4j
+final class Stage implements Runnable {
+
+    private final BlockingQueue<PipelineItem> input;
+    private final BlockingQueue<PipelineItem> output;
+    private final Consumer<PipelineItem> processor;
+    private final StageMetrics metrics;
+
+    Stage(BlockingQueue<PipelineItem> input, BlockingQueue<PipelineItem> output,
+          Consumer<PipelineItem> processor, StageMetrics metrics) {
+        this.input = input;
+        this.output = output;
+        this.processor = processor;
+        this.metrics = metrics;
+    }
+
+    @Override
+    public void run() {
+        try {
+            while (true) {
+                PipelineItem item = input.take();
+                if (item == PipelineItem.END) {
+                    output.put(item);
+                    return;
+                }
+                if (!item.isSkipped()) {
+                    process(item);
+                }
+                output.put(item);
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void process(PipelineItem item) {
+        long start = System.nanoTime();
+        boolean failure = false;
+        try {
+            processor.accept(item);
+        } catch (RuntimeException ex) {
+            failure = true;
+            item.skip(metrics.getName() + " failed: " + ex.getMessage());
+            log.debug("Stage {} failed on {} at {}", metrics.getName(), item.getSource(), item.getPosition(), ex);
+        }
+        metrics.record(item, failure, System.nanoTime() - start);
+    }
+}
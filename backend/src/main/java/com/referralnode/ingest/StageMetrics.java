@@ -0,0 +1,64 @@
+package com.referralnode.ingest;
+
+import lombok.Getter;
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counters for one pipeline stage, plus the queue it reads from
+ */
+final class StageMetrics {
+
+    @Getter
+    private final String name;
+    private final BlockingQueue<PipelineItem> input;
+
+    private final LongAdder processed = new LongAdder();
+    private final LongAdder skipped = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder busyNanos = new LongAdder();
+
+    StageMetrics(String name, BlockingQueue<PipelineItem> input) {
+        this.name = name;
+        this.input = input;
+    }
+
+    void record(PipelineItem item, boolean failure, long nanos) {
+        processed.increment();
+        if (failure) {
+            failed.increment();
+        } else if (item.isSkipped()) {
+            skipped.increment();
+        }
+        busyNanos.add(nanos);
+    }
+
+    void addBusyNanos(long nanos) {
+        busyNanos.add(nanos);
+    }
+
+    long processed() {
+        return processed.sum();
+    }
+
+    long skipped() {
+        return skipped.sum();
+    }
+
+    long failed() {
+        return failed.sum();
+    }
+
+    long busyNanos() {
+        return busyNanos.sum();
+    }
+
+    int queueDepth() {
+        return input == null ? 0 : input.size();
+    }
+
+    int queueCapacity() {
+        return input == null ? 0 : input.size() + input.remainingCapacity();
+    }
+}
@@ -3,41 +3,100 @@ package com.referralnode.mapper;
 import com.referralnode.dto.JobRequest;
 import com.referralnode.dto.JobResponse;
 import com.referralnode.entity.Job;
+import com.referralnode.util.CategoryDictionary;
 import com.referralnode.util.RichTextUtil;
+import com.referralnode.util.TagNormalizer;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Locale;
 
 @Component
 @RequiredArgsConstructor
 public class JobMapper {
     
+    public static final int PREVIEW_LENGTH = 200;
+    
+    // Separates fields in the fingerprint input so "ab"+"c" and "a"+"bc" differ
+    private static final char FIELD_SEPARATOR = '\u001F';
+    
     private final RichTextUtil richTextUtil;
     
     public Job toEntity(JobRequest request) {
-        return Job.builder()
+        LocalDateTime now = LocalDateTime.now();
+        String description = richTextUtil.sanitizeRichText(request.getDescription());
+        Job job = Job.builder()
                 .title(request.getTitle())
-                .company(request.getCompany())
-                .location(request.getLocation())
-                .description(richTextUtil.sanitizeRichText(request.getDescription()))
+                .company(CategoryDictionary.canonical(request.getCompany()))
+                .location(CategoryDictionary.canonical(request.getLocation()))
+                .description(description)
+                .descriptionPreview(richTextUtil.getPreview(description, PREVIEW_LENGTH))
                 .salaryRange(request.getSalaryRange())
                 .postedAt(request.getPostedAt())
                 .sourceUrl(request.getSourceUrl())
-                .tags(request.getTags())
-                .createdAt(LocalDateTime.now())
+                .tags(CategoryDictionary.canonicalAll(TagNormalizer.normalize(request.getTags())))
+                .createdAt(now)
+                .updatedAt(now)
                 .build();
+        job.setContentHash(contentHash(job));
+        return job;
     }
     
     public void updateEntity(Job job, JobRequest request) {
         job.setTitle(request.getTitle());
-        job.setCompany(request.getCompany());
-        job.setLocation(request.getLocation());
+        job.setCompany(CategoryDictionary.canonical(request.getCompany()));
+        job.setLocation(CategoryDictionary.canonical(request.getLocation()));
         job.setDescription(richTextUtil.sanitizeRichText(request.getDescription()));
+        job.setDescriptionPreview(richTextUtil.getPreview(job.getDescription(), PREVIEW_LENGTH));
         job.setSalaryRange(request.getSalaryRange());
         job.setPostedAt(request.getPostedAt());
         job.setSourceUrl(request.getSourceUrl());
-        job.setTags(request.getTags());
+        job.setTags(CategoryDictionary.canonicalAll(TagNormalizer.normalize(request.getTags())));
+        job.setContentHash(contentHash(job));
+        job.setUpdatedAt(LocalDateTime.now());
+    }
+    
+    /**
+     * Fingerprint of what a reader sees: case, whitespace, markup and tag order are ignored,
+     * and so are the source URL and timestamps, so re-sent or re-posted jobs hash the same
+     */
+    public String contentHash(Job job) {
+        StringBuilder content = new StringBuilder();
+        appendNormalized(content, job.getTitle());
+        appendNormalized(content, job.getCompany());
+        appendNormalized(content, job.getLocation());
+        appendNormalized(content, job.getSalaryRange());
+        appendNormalized(content, richTextUtil.htmlToPlainText(job.getDescription()));
+        if (job.getTags() != null) {
+            List<String> tags = job.getTags().stream()
+                    .filter(tag -> tag != null)
+                    .map(tag -> tag.trim().toLowerCase(Locale.ROOT))
+                    .filter(tag -> !tag.isEmpty())
+                    .sorted()
+                    .distinct()
+                    .toList();
+            tags.forEach(tag -> appendNormalized(content, tag));
+        }
+        
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(content.toString().getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 not available", ex);
+        }
+    }
+    
+    private static void appendNormalized(StringBuilder content, String value) {
+        if (value != null) {
+            content.append(value.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT));
+        }
+        content.append(FIELD_SEPARATOR);
     }
     
     public JobResponse toResponse(Job job) {
@@ -0,0 +1,106 @@
+package com.referralnode.metrics;
+
+import com.referralnode.search.JobSearchCriteria;
+import com.referralnode.search.JobSearchEngine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Latency histograms for job queries, tagged by operation, search engine and query shape
+ * (the normalized filter combination from {@link JobSearchCriteria#shape()}).
+ * <p>
+ * Queries slower than the threshold are always counted; a sampled fraction of them is
+ * logged with the criteria, so a burst of slow queries cannot flood the log.
+ */
+@Component
+@Slf4j
+public class QueryMetrics {
+
+    private static final String TIMER = "referralnode.jobs.query";
+    private static final String SLOW_COUNTER = "referralnode.jobs.query.slow";
+
+    private final MeterRegistry meterRegistry;
+    private final String engine;
+    // Built once per tag combination; shapes are normalized, so these stay small
+    private final Map<TimerKey, Timer> timers = new ConcurrentHashMap<>();
+    private final Map<CounterKey, Counter> slowCounters = new ConcurrentHashMap<>();
+    private final long slowThresholdNanos;
+    private final double slowSampleRate;
+
+    private record TimerKey(String operation, String shape, String outcome) {
+    }
+
+    private record CounterKey(String operation, String shape) {
+    }
+
+    public QueryMetrics(
+            MeterRegistry meterRegistry,
+            JobSearchEngine jobSearchEngine,
+            @Value("${metrics.slow-query.threshold-ms:500}") long slowThresholdMillis,
+            @Value("${metrics.slow-query.sample-rate:0.1}") double slowSampleRate) {
+        this.meterRegistry = meterRegistry;
+        this.engine = ClassUtils.getUserClass(jobSearchEngine).getSimpleName();
+        this.slowThresholdNanos = slowThresholdMillis * 1_000_000;
+        this.slowSampleRate = slowSampleRate;
+    }
+
+    /**
+     * Run a query and record its latency under the criteria's shape
+     * @param operation what is executed, e.g. "page", "slice", "count" or "cursor"
+     */
+    public <T> T record(String operation, JobSearchCriteria criteria, Supplier<T> query) {
+        String shape = criteria.shape();
+        long start = System.nanoTime();
+        String outcome = "error";
+        try {
+            T result = query.get();
+            outcome = "success";
+            return result;
+        } finally {
+            long elapsed = System.nanoTime() - start;
+            timers.computeIfAbsent(new TimerKey(operation, shape, outcome), this::timer)
+                    .record(elapsed, TimeUnit.NANOSECONDS);
+            if (elapsed >= slowThresholdNanos) {
+                onSlow(operation, shape, criteria, elapsed);
+            }
+        }
+    }
+
+    private Timer timer(TimerKey key) {
+        return Timer.builder(TIMER)
+                .description("Job listing and search queries by filter combination")
+                .tag("operation", key.operation())
+                .tag("engine", engine)
+                .tag("shape", key.shape())
+                .tag("outcome", key.outcome())
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    private Counter slowCounter(CounterKey key) {
+        return Counter.builder(SLOW_COUNTER)
+                .description("Job queries slower than metrics.slow-query.threshold-ms")
+                .tag("operation", key.operation())
+                .tag("shape", key.shape())
+                .register(meterRegistry);
+    }
+
+    private void onSlow(String operation, String shape, JobSearchCriteria criteria, long elapsedNanos) {
+        slowCounters.computeIfAbsent(new CounterKey(operation, shape), this::slowCounter).increment();
+        if (ThreadLocalRandom.current().nextDouble() < slowSampleRate) {
+            log.warn("Slow job query: {} ms, operation={}, engine={}, shape={}, criteria={}",
+                    elapsedNanos / 1_000_000, operation, engine, shape, criteria);
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package com.referralnode.perf;
+
+import com.referralnode.dto.JobRequest;
+import com.referralnode.entity.Job;
+import com.referralnode.mapper.JobMapper;
+import com.referralnode.repository.JobRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.UUID;
+
+/**
+ * Fills the jobs table with deterministic synthetic postings for load tests (perf profile).
+ * <p>
+ * Runs before the application reports ready, so the search index, dashboard rollup and
+ * dedupe filters are built from the seeded data. Only the shortfall up to
+ * {@code perf.seed.jobs} is inserted, continuing from job {@code count}, and job i always
+ * gets the same id and content, so restarting against the same database is cheap and runs
+ * stay comparable.
+ */
+@Component
+@Profile("perf")
+@RequiredArgsConstructor
+@Slf4j
+public class PerfDataSeeder implements ApplicationRunner {
+
+    private static final String SOURCE_PREFIX = "https://perf.referralnode.local/jobs/";
+
+    private static final String[] TITLES = {
+            "Backend Engineer", "Senior Java Developer", "Frontend Engineer", "Data Engineer",
+            "Site Reliability Engineer", "Engineering Manager", "Full Stack Developer", "Product Designer",
+            "Machine Learning Engineer", "QA Automation Engineer"
+    };
+
+    private static final String[] TAGS = {
+            "java", "spring", "postgres", "react", "typescript", "kubernetes", "aws", "remote",
+            "python", "go", "kafka", "graphql", "docker", "terraform", "node"
+    };
+
+    private static final String[] PARAGRAPHS = {
+            "<p>We are looking for an <strong>experienced</strong> engineer to join a product team that ships weekly.</p>",
+            "<ul><li>Design and build services</li><li>Own features end to end</li><li>Review code and mentor</li></ul>",
+            "<p>Our stack includes Java, Spring Boot, PostgreSQL and React, deployed on Kubernetes.</p>",
+            "<h2>Benefits</h2><p>Health cover, a learning budget and flexible <em>remote</em> work.</p>",
+            "<p>Apply on <a href=\"https://example.com/careers\">our careers page</a>.</p>"
+    };
+
+    private final JobRepository jobRepository;
+    private final JobMapper jobMapper;
+
+    @Value("${perf.seed.jobs:100000}")
+    private int targetJobs;
+
+    @Value("${perf.seed.batch-size:1000}")
+    private int batchSize;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        long existing = jobRepository.count();
+        if (existing >= targetJobs) {
+            log.info("Perf seed skipped: {} jobs present, {} requested", existing, targetJobs);
+            return;
+        }
+
+        long started = System.nanoTime();
+        LocalDateTime now = LocalDateTime.now();
+        long shortfall = targetJobs - existing;
+        long inserted = 0;
+        // An earlier run seeded jobs 0 .. existing-1; any of them found further on is skipped by id
+        int next = (int) existing;
+        while (inserted < shortfall) {
+            int count = (int) Math.min(batchSize, shortfall - inserted);
+            List<Job> batch = new ArrayList<>(count);
+            for (int i = next; i < next + count; i++) {
+                batch.add(syntheticJob(i, now));
+            }
+            next += count;
+            inserted += jobRepository.insertAll(batch).size();
+        }
+        log.info("Perf seed inserted {} jobs in {} ms ({} present, {} requested)",
+                inserted, (System.nanoTime() - started) / 1_000_000, existing, targetJobs);
+    }
+
+    private Job syntheticJob(int index, LocalDateTime now) {
+        // SplittableRandom mixes its seed, so consecutive indexes give unrelated draws
+        SplittableRandom random = new SplittableRandom(index);
+        // Squared uniform draws: a few large employers and hubs, a long tail of small ones
+        double companyDraw = random.nextDouble();
+        double locationDraw = random.nextDouble();
+
+        StringBuilder description = new StringBuilder();
+        int paragraphs = 3 + random.nextInt(6);
+        for (int p = 0; p < paragraphs; p++) {
+            description.append(PARAGRAPHS[random.nextInt(PARAGRAPHS.length)]);
+        }
+        description.append("<p>Requisition R-").append(index).append("</p>");
+
+        List<String> tags = new ArrayList<>();
+        int tagCount = 1 + random.nextInt(4);
+        while (tags.size() < tagCount) {
+            String tag = TAGS[random.nextInt(TAGS.length)];
+            if (!tags.contains(tag)) {
+                tags.add(tag);
+            }
+        }
+
+        LocalDateTime posted = now.minusMinutes(random.nextInt(365 * 24 * 60));
+        Job job = jobMapper.toEntity(JobRequest.builder()
+                .title(TITLES[random.nextInt(TITLES.length)])
+                .company("Company " + (int) (companyDraw * companyDraw * 5_000))
+                .location("City " + (int) (locationDraw * locationDraw * 400))
+                .description(description.toString())
+                .salaryRange("$" + (60 + random.nextInt(140)) + "k - $" + (200 + random.nextInt(100)) + "k")
+                .postedAt(posted)
+                .sourceUrl(SOURCE_PREFIX + index)
+                .tags(tags)
+                .build());
+        job.setId(new UUID(0x5EEDL, index));
+        job.setCreatedAt(posted);
+        job.setUpdatedAt(posted);
+        return job;
+    }
+}
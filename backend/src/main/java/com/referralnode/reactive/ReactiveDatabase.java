@@ -0,0 +1,82 @@
+package com.referralnode.reactive;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.metrics.r2dbc.ConnectionPoolMetrics;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * R2DBC connection pool and client behind the reactive read API.
+ * <p>
+ * Deliberately not exposed as a {@code ConnectionFactory} bean: Spring Boot backs off its JDBC
+ * DataSource as soon as one exists, and the blocking stack still needs it. For the same reason
+ * R2dbcAutoConfiguration is excluded in application.properties. The URL defaults to
+ * {@code spring.datasource.url} rewritten for R2DBC, so profiles that move the database move both.
+ */
+@Component
+public class ReactiveDatabase implements MeterBinder, DisposableBean {
+
+    private final ConnectionPool pool;
+    private final DatabaseClient client;
+
+    public ReactiveDatabase(
+            @Value("${reactive.r2dbc.url:}") String url,
+            @Value("${spring.datasource.url}") String jdbcUrl,
+            @Value("${reactive.r2dbc.username:${spring.datasource.username}}") String username,
+            @Value("${reactive.r2dbc.password:${spring.datasource.password}}") String password,
+            @Value("${reactive.r2dbc.pool.initial-size:2}") int initialSize,
+            @Value("${reactive.r2dbc.pool.max-size:10}") int maxSize,
+            @Value("${reactive.r2dbc.pool.max-acquire-time-ms:5000}") long maxAcquireMillis) {
+
+        ConnectionFactoryOptions options = ConnectionFactoryOptions.parse(url.isBlank() ? fromJdbc(jdbcUrl) : url)
+                .mutate()
+                .option(ConnectionFactoryOptions.USER, username)
+                .option(ConnectionFactoryOptions.PASSWORD, password)
+                .build();
+        // Connections are opened on first use, so startup does not wait for the database
+        this.pool = new ConnectionPool(ConnectionPoolConfiguration.builder(ConnectionFactories.get(options))
+                .name("reactive")
+                .initialSize(initialSize)
+                .maxSize(maxSize)
+                .maxAcquireTime(Duration.ofMillis(maxAcquireMillis))
+                .build());
+        this.client = DatabaseClient.create(pool);
+    }
+
+    public DatabaseClient client() {
+        return client;
+    }
+
+    /**
+     * r2dbc.pool.* meters (acquired, idle, pending, ...) tagged name=reactive
+     */
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        new ConnectionPoolMetrics(pool, "reactive", Tags.empty()).bindTo(registry);
+    }
+
+    @Override
+    public void destroy() {
+        pool.dispose();
+    }
+
+    // jdbc:postgresql://host:port/db?jdbcOnlyOptions -> r2dbc:postgresql://host:port/db
+    private static String fromJdbc(String jdbcUrl) {
+        if (!jdbcUrl.startsWith("jdbc:postgresql:")) {
+            throw new IllegalStateException("Set reactive.r2dbc.url; it cannot be derived from " + jdbcUrl);
+        }
+        String url = "r2dbc:" + jdbcUrl.substring("jdbc:".length());
+        int query = url.indexOf('?');
+        return query < 0 ? url : url.substring(0, query);
+    }
+}
@@ -0,0 +1,138 @@
+package com.referralnode.reactive;
+
+import com.referralnode.dto.CursorPageResponse;
+import com.referralnode.dto.JobResponse;
+import com.referralnode.exception.ErrorResponse;
+import com.referralnode.search.JobSearchCriteria;
+import com.referralnode.search.TagMode;
+import com.referralnode.util.KeysetCursor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Handlers for the reactive job listing under /api/reactive. Same parameters, validation
+ * and cursor format as {@code GET /api/jobs?cursor=}, so the two stacks can be compared on
+ * identical requests.
+ */
+@Component
+@RequiredArgsConstructor
+public class ReactiveJobHandler {
+
+    static final int MAX_PAGE_SIZE = 100;
+    static final int DEFAULT_STREAM_LIMIT = 1000;
+    static final int MAX_STREAM_LIMIT = 100_000;
+
+    private final ReactiveJobRepository reactiveJobRepository;
+
+    /**
+     * Parsed listing parameters
+     */
+    private record Query(JobSearchCriteria criteria, String sortBy, boolean ascending, KeysetCursor after, int limit) {
+    }
+
+    /**
+     * GET /api/reactive/jobs: one keyset page as a CursorPageResponse
+     */
+    public Mono<ServerResponse> list(ServerRequest request) {
+        return Mono.fromSupplier(() -> query(request, "size", 10, MAX_PAGE_SIZE))
+                .flatMap(query -> reactiveJobRepository
+                        // One extra row tells whether another page exists, without a count query
+                        .find(query.criteria(), query.sortBy(), query.ascending(), query.after(), query.limit() + 1)
+                        .collectList()
+                        .map(rows -> toPage(rows, query)))
+                .flatMap(page -> ServerResponse.ok().contentType(MediaType.APPLICATION_JSON).bodyValue(page));
+    }
+
+    /**
+     * GET /api/reactive/jobs/stream: every matching job as newline-delimited JSON, in keyset order.
+     * Rows are read from the database only as fast as the client consumes them.
+     */
+    public Mono<ServerResponse> stream(ServerRequest request) {
+        return Mono.fromSupplier(() -> query(request, "limit", DEFAULT_STREAM_LIMIT, MAX_STREAM_LIMIT))
+                .flatMap(query -> ServerResponse.ok()
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .body(reactiveJobRepository.find(query.criteria(), query.sortBy(), query.ascending(),
+                                query.after(), query.limit()), JobResponse.class));
+    }
+
+    /**
+     * 400 with the same body as GlobalExceptionHandler
+     */
+    public Mono<ServerResponse> badRequest(Throwable ex, ServerRequest request) {
+        ErrorResponse error = new ErrorResponse(
+                HttpStatus.BAD_REQUEST.value(),
+                ex.getMessage(),
+                LocalDateTime.now(),
+                request.path()
+        );
+        return ServerResponse.badRequest().contentType(MediaType.APPLICATION_JSON).bodyValue(error);
+    }
+
+    private static Query query(ServerRequest request, String limitParam, int defaultLimit, int maxLimit) {
+        int limit = request.queryParam(limitParam).map(ReactiveJobHandler::parseInt).orElse(defaultLimit);
+        if (limit < 1 || limit > maxLimit) {
+            throw new IllegalArgumentException(limitParam + " must be between 1 and " + maxLimit);
+        }
+        TagMode tagMode = TagMode.parse(request.queryParam("tagMode").orElse("any"));
+
+        // The cursor, when present, carries the sort and takes precedence over sortBy/sortDir
+        String cursor = request.queryParam("cursor").orElse("");
+        KeysetCursor after = cursor.isBlank() ? null : KeysetCursor.decode(cursor);
+        String sortBy = after != null ? after.sortBy() : request.queryParam("sortBy").orElse("postedAt");
+        boolean ascending = after != null ? after.ascending()
+                : request.queryParam("sortDir").orElse("DESC").equalsIgnoreCase("ASC");
+        if (!KeysetCursor.SORTABLE.contains(sortBy)) {
+            throw new IllegalArgumentException("Cursor pagination supports sortBy " + KeysetCursor.SORTABLE);
+        }
+
+        // Parse tags if provided
+        List<String> tags = request.queryParam("tags")
+                .filter(value -> !value.trim().isEmpty())
+                .map(value -> List.of(value.split(",")))
+                .orElse(null);
+
+        JobSearchCriteria criteria = JobSearchCriteria.builder()
+                .company(request.queryParam("company").orElse(null))
+                .location(request.queryParam("location").orElse(null))
+                .title(request.queryParam("title").orElse(null))
+                .tags(tags)
+                .tagMode(tagMode)
+                .build();
+        return new Query(criteria, sortBy, ascending, after, limit);
+    }
+
+    private static CursorPageResponse<JobResponse> toPage(List<JobResponse> rows, Query query) {
+        boolean hasNext = rows.size() > query.limit();
+        List<JobResponse> pageRows = hasNext ? rows.subList(0, query.limit()) : rows;
+
+        String nextCursor = null;
+        if (hasNext) {
+            JobResponse tail = pageRows.get(pageRows.size() - 1);
+            LocalDateTime tailValue = "createdAt".equals(query.sortBy()) ? tail.getCreatedAt() : tail.getPostedAt();
+            nextCursor = new KeysetCursor(query.sortBy(), query.ascending(), tailValue, tail.getId()).encode();
+        }
+
+        return CursorPageResponse.<JobResponse>builder()
+                .content(pageRows)
+                .pageSize(query.limit())
+                .nextCursor(nextCursor)
+                .last(!hasNext)
+                .build();
+    }
+
+    private static int parseInt(String value) {
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException ex) {
+            throw new IllegalArgumentException("Expected a number, got: " + value);
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package com.referralnode.reactive;
+
+import com.referralnode.dto.JobResponse;
+import com.referralnode.search.JobSearchCriteria;
+import com.referralnode.search.TagMode;
+import com.referralnode.util.CategoryDictionary;
+import com.referralnode.util.KeysetCursor;
+import com.referralnode.util.TagNormalizer;
+import io.r2dbc.spi.Readable;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.UUID;
+
+/**
+ * Non-blocking job reads over R2DBC. The filters mirror {@code JobSpecification.filterJobs}
+ * and the seek mirrors {@code JobSpecification.after}, so a listing returns the same rows
+ * in the same order as the blocking cursor endpoint.
+ */
+@Repository
+public class ReactiveJobRepository {
+
+    private static final String SELECT = "SELECT id, title, company, location, description, salary_range, "
+            + "posted_at, source_url, tags, created_at FROM jobs";
+
+    // Timestamp columns backed by a (column, id) composite index
+    private static final Map<String, String> SORT_COLUMNS = Map.of(
+            "postedAt", "posted_at",
+            "createdAt", "created_at");
+
+    private final DatabaseClient client;
+    private final int fetchSize;
+
+    public ReactiveJobRepository(
+            ReactiveDatabase database,
+            @Value("${reactive.r2dbc.fetch-size:100}") int fetchSize) {
+        this.client = database.client();
+        this.fetchSize = fetchSize;
+    }
+
+    /**
+     * Up to limit jobs matching the criteria in (sortBy, id) order, after the cursor when given.
+     * Rows are fetched fetchSize at a time as the subscriber requests them.
+     */
+    public Flux<JobResponse> find(JobSearchCriteria criteria, String sortBy, boolean ascending,
+                                  KeysetCursor after, int limit) {
+        String column = SORT_COLUMNS.get(sortBy);
+        if (column == null) {
+            throw new IllegalArgumentException("Cursor pagination supports sortBy " + KeysetCursor.SORTABLE);
+        }
+
+        StringJoiner where = new StringJoiner(" AND ", " WHERE ", "").setEmptyValue("");
+        Map<String, Object> params = new LinkedHashMap<>();
+        // Like JobSpecification.hasSortValue: a NULL has no place in the (column, id) order
+        where.add(column + " IS NOT NULL");
+        contains(where, params, "company", criteria.getCompany());
+        contains(where, params, "location", criteria.getLocation());
+        contains(where, params, "title", criteria.getTitle());
+
+        List<String> tags = TagNormalizer.normalize(criteria.getTags());
+        if (tags != null && !tags.isEmpty()) {
+            String operator = criteria.getTagMode() == TagMode.ALL ? "@>" : "&&";
+            where.add("tags " + operator + " CAST(:tags AS text[])");
+            params.put("tags", tags.toArray(new String[0]));
+        }
+
+        // Row comparison: same rows as "value < v OR (value = v AND id < i)", and a single index range
+        if (after != null) {
+            where.add("(" + column + ", id) " + (ascending ? ">" : "<") + " (:afterValue, :afterId)");
+            params.put("afterValue", after.value());
+            params.put("afterId", after.id());
+        }
+
+        String direction = ascending ? "ASC" : "DESC";
+        String sql = SELECT + where + " ORDER BY " + column + " " + direction + ", id " + direction + " LIMIT :limit";
+        params.put("limit", limit);
+
+        DatabaseClient.GenericExecuteSpec spec = client.sql(sql)
+                .filter((statement, next) -> next.execute(statement.fetchSize(fetchSize)));
+        for (Map.Entry<String, Object> param : params.entrySet()) {
+            spec = spec.bind(param.getKey(), param.getValue());
+        }
+        return spec.map(this::toResponse).all();
+    }
+
+    // Case-insensitive partial match, like the Specification
+    private static void contains(StringJoiner where, Map<String, Object> params, String column, String value) {
+        if (value != null && !value.trim().isEmpty()) {
+            where.add("lower(" + column + ") LIKE :" + column);
+            params.put(column, "%" + value.toLowerCase(Locale.ROOT) + "%");
+        }
+    }
+
+    // Same shape as JobMapper.toResponse, with the categorical values canonicalized like a loaded Job
+    private JobResponse toResponse(Readable row) {
+        String[] tags = row.get("tags", String[].class);
+        return JobResponse.builder()
+                .id(row.get("id", UUID.class))
+                .title(row.get("title", String.class))
+                .company(CategoryDictionary.canonical(row.get("company", String.class)))
+                .location(CategoryDictionary.canonical(row.get("location", String.class)))
+                .description(row.get("description", String.class))
+                .salaryRange(row.get("salary_range", String.class))
+                .postedAt(row.get("posted_at", LocalDateTime.class))
+                .sourceUrl(row.get("source_url", String.class))
+                .tags(tags == null ? null : CategoryDictionary.canonicalAll(Arrays.asList(tags)))
+                .createdAt(row.get("created_at", LocalDateTime.class))
+                .build();
+    }
+}
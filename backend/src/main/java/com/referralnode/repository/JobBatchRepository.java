@@ -0,0 +1,55 @@
+package com.referralnode.repository;
+
+import com.referralnode.entity.Job;
+import com.referralnode.repository.projection.JobDedupeKey;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Bulk writes through plain JDBC batches, bypassing the persistence context
+ */
+public interface JobBatchRepository {
+    
+    /**
+     * Ids among the given ones that already exist
+     */
+    Set<UUID> findExistingIds(Collection<UUID> ids);
+    
+    /**
+     * Stored jobs with the given source URLs, keyed by source URL
+     */
+    Map<String, JobDedupeKey> findDedupeKeysBySourceUrls(Collection<String> sourceUrls);
+    
+    /**
+     * One stored job per given content hash, keyed by content hash
+     */
+    Map<String, JobDedupeKey> findDedupeKeysByContentHashes(Collection<String> contentHashes);
+    
+    /**
+     * Visit the dedupe key of every stored job, streaming from a server-side cursor
+     */
+    void forEachDedupeKey(Consumer<JobDedupeKey> consumer);
+    
+    /**
+     * Insert jobs with pre-assigned ids in one transaction, skipping rows whose id or source URL already exists.
+     * @return ids of the rows actually inserted
+     */
+    Set<UUID> insertAll(List<Job> jobs);
+    
+    /**
+     * Overwrite the content of existing jobs by id in one transaction; created_at is left untouched.
+     * @return number of rows updated
+     */
+    int updateAll(List<Job> jobs);
+    
+    /**
+     * {@link #insertAll} and {@link #updateAll} in one transaction
+     * @return ids of the rows actually inserted
+     */
+    Set<UUID> writeAll(List<Job> inserts, List<Job> updates);
+}
@@ -0,0 +1,192 @@
+package com.referralnode.repository;
+
+import com.referralnode.entity.Job;
+import com.referralnode.repository.projection.JobDedupeKey;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+public class JobBatchRepositoryImpl implements JobBatchRepository {
+    
+    private static final String INSERT_SQL =
+            "INSERT INTO jobs (id, title, company, location, description, description_preview, salary_range, " +
+            "posted_at, source_url, tags, content_hash, created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?) " +
+            "ON CONFLICT DO NOTHING RETURNING id";
+    
+    private static final String UPDATE_SQL =
+            "UPDATE jobs SET title = ?, company = ?, location = ?, description = ?, description_preview = ?, " +
+            "salary_range = ?, posted_at = ?, source_url = ?, tags = ?, content_hash = ?, updated_at = ? " +
+            "WHERE id = ?";
+    
+    private static final String DEDUPE_COLUMNS = "SELECT id, source_url, content_hash, created_at FROM jobs ";
+    
+    private static final RowMapper<JobDedupeKey> DEDUPE_KEY = (rs, rowNum) -> new JobDedupeKey(
+            rs.getObject("id", UUID.class),
+            rs.getString("source_url"),
+            rs.getString("content_hash"),
+            rs.getTimestamp("created_at") == null ? null : rs.getTimestamp("created_at").toLocalDateTime());
+    
+    private final JdbcTemplate jdbcTemplate;
+    private final int jdbcBatchSize;
+    
+    public JobBatchRepositoryImpl(JdbcTemplate jdbcTemplate,
+                                  @Value("${ingest.batch.jdbc-batch-size:500}") int jdbcBatchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.jdbcBatchSize = jdbcBatchSize;
+    }
+    
+    @Override
+    public Set<UUID> findExistingIds(Collection<UUID> ids) {
+        if (ids.isEmpty()) {
+            return Set.of();
+        }
+        return jdbcTemplate.query(
+                "SELECT id FROM jobs WHERE id = ANY(?)",
+                ps -> ps.setArray(1, ps.getConnection().createArrayOf("uuid", ids.toArray())),
+                rs -> {
+                    Set<UUID> existing = new HashSet<>();
+                    while (rs.next()) {
+                        existing.add(rs.getObject(1, UUID.class));
+                    }
+                    return existing;
+                });
+    }
+    
+    @Override
+    public Map<String, JobDedupeKey> findDedupeKeysBySourceUrls(Collection<String> sourceUrls) {
+        return findDedupeKeys("source_url", sourceUrls, JobDedupeKey::sourceUrl);
+    }
+    
+    @Override
+    public Map<String, JobDedupeKey> findDedupeKeysByContentHashes(Collection<String> contentHashes) {
+        return findDedupeKeys("content_hash", contentHashes, JobDedupeKey::contentHash);
+    }
+    
+    private Map<String, JobDedupeKey> findDedupeKeys(String column, Collection<String> values,
+                                                     Function<JobDedupeKey, String> key) {
+        if (values.isEmpty()) {
+            return Map.of();
+        }
+        List<JobDedupeKey> rows = jdbcTemplate.query(
+                DEDUPE_COLUMNS + "WHERE " + column + " = ANY(?)",
+                ps -> ps.setArray(1, ps.getConnection().createArrayOf("text", values.toArray())),
+                DEDUPE_KEY);
+        
+        // Oldest wins when several rows share a content hash
+        Map<String, JobDedupeKey> byKey = new HashMap<>();
+        rows.stream()
+                .sorted(Comparator.comparing(JobDedupeKey::createdAt, Comparator.nullsFirst(Comparator.naturalOrder())))
+                .forEach(row -> byKey.putIfAbsent(key.apply(row), row));
+        return byKey;
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public void forEachDedupeKey(Consumer<JobDedupeKey> consumer) {
+        // A fetch size inside a transaction makes the PostgreSQL driver use a cursor
+        JdbcTemplate streaming = new JdbcTemplate(Objects.requireNonNull(jdbcTemplate.getDataSource()));
+        streaming.setFetchSize(jdbcBatchSize);
+        streaming.query(DEDUPE_COLUMNS, (RowCallbackHandler) rs -> consumer.accept(DEDUPE_KEY.mapRow(rs, rs.getRow())));
+    }
+    
+    @Override
+    @Transactional
+    public Set<UUID> insertAll(List<Job> jobs) {
+        // Skipped rows return no id, so the keys are exactly the rows this call inserted
+        Set<UUID> inserted = new HashSet<>();
+        for (int from = 0; from < jobs.size(); from += jdbcBatchSize) {
+            List<Job> batch = jobs.subList(from, Math.min(jobs.size(), from + jdbcBatchSize));
+            GeneratedKeyHolder keys = new GeneratedKeyHolder();
+            jdbcTemplate.batchUpdate(
+                    con -> con.prepareStatement(INSERT_SQL, new String[]{"id"}),
+                    new BatchPreparedStatementSetter() {
+                        @Override
+                        public void setValues(PreparedStatement ps, int i) throws SQLException {
+                            Job job = batch.get(i);
+                            ps.setObject(1, job.getId());
+                            ps.setString(2, job.getTitle());
+                            ps.setString(3, job.getCompany());
+                            ps.setString(4, job.getLocation());
+                            ps.setString(5, job.getDescription());
+                            ps.setString(6, job.getDescriptionPreview());
+                            ps.setString(7, job.getSalaryRange());
+                            ps.setTimestamp(8, toTimestamp(job.getPostedAt()));
+                            ps.setString(9, job.getSourceUrl());
+                            ps.setArray(10, job.getTags() == null
+                                    ? null
+                                    : ps.getConnection().createArrayOf("text", job.getTags().toArray()));
+                            ps.setString(11, job.getContentHash());
+                            ps.setTimestamp(12, toTimestamp(job.getCreatedAt()));
+                            ps.setTimestamp(13, toTimestamp(job.getUpdatedAt()));
+                        }
+                        
+                        @Override
+                        public int getBatchSize() {
+                            return batch.size();
+                        }
+                    },
+                    keys);
+            keys.getKeyList().forEach(row -> inserted.add((UUID) row.get("id")));
+        }
+        return inserted;
+    }
+    
+    @Override
+    @Transactional
+    public int updateAll(List<Job> jobs) {
+        int[][] counts = jdbcTemplate.batchUpdate(UPDATE_SQL, jobs, jdbcBatchSize, (ps, job) -> {
+            ps.setString(1, job.getTitle());
+            ps.setString(2, job.getCompany());
+            ps.setString(3, job.getLocation());
+            ps.setString(4, job.getDescription());
+            ps.setString(5, job.getDescriptionPreview());
+            ps.setString(6, job.getSalaryRange());
+            ps.setTimestamp(7, toTimestamp(job.getPostedAt()));
+            ps.setString(8, job.getSourceUrl());
+            ps.setArray(9, job.getTags() == null
+                    ? null
+                    : ps.getConnection().createArrayOf("text", job.getTags().toArray()));
+            ps.setString(10, job.getContentHash());
+            ps.setTimestamp(11, toTimestamp(job.getUpdatedAt()));
+            ps.setObject(12, job.getId());
+        });
+        return sum(counts);
+    }
+    
+    @Override
+    @Transactional
+    public Set<UUID> writeAll(List<Job> inserts, List<Job> updates) {
+        Set<UUID> inserted = insertAll(inserts);
+        updateAll(updates);
+        return inserted;
+    }
+    
+    // reWriteBatchedInserts reports SUCCESS_NO_INFO per row; count those as applied
+    private static int sum(int[][] counts) {
+        int total = 0;
+        for (int[] batch : counts) {
+            for (int count : batch) {
+                total += count == Statement.SUCCESS_NO_INFO ? 1 : count;
+            }
+        }
+        return total;
+    }
+    
+    private static Timestamp toTimestamp(LocalDateTime value) {
+        return value == null ? null : Timestamp.valueOf(value);
+    }
+}
@@ -0,0 +1,20 @@
+package com.referralnode.repository;
+
+import com.referralnode.entity.Job;
+import com.referralnode.search.JobSearchCriteria;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+
+/**
+ * PostgreSQL-native search over the {@code search_vector} column and trigram indexes
+ * (see schema.sql)
+ */
+public interface JobFullTextRepository {
+    
+    Page<Job> fullTextSearch(JobSearchCriteria criteria, Pageable pageable);
+    
+    Slice<Job> fullTextSlice(JobSearchCriteria criteria, Pageable pageable);
+    
+    long fullTextCount(JobSearchCriteria criteria);
+}
@@ -0,0 +1,132 @@
+package com.referralnode.repository;
+
+import com.referralnode.entity.Job;
+import com.referralnode.search.JobSearchCriteria;
+import com.referralnode.search.TagMode;
+import com.referralnode.util.TagNormalizer;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+
+import java.util.*;
+
+/**
+ * Builds native SQL so that each filter hits an index: {@code @@ websearch_to_tsquery}
+ * on the generated tsvector, {@code ILIKE} on the pg_trgm GIN indexes and {@code &&}
+ * (any) or {@code @>} (all) on the GIN-indexed tags array.
+ */
+public class JobFullTextRepositoryImpl implements JobFullTextRepository {
+    
+    private static final String TS_QUERY = "websearch_to_tsquery('english', :query)";
+    
+    // Sortable properties and their columns; anything else is rejected
+    private static final Map<String, String> SORT_COLUMNS = Map.of(
+            "postedAt", "posted_at",
+            "createdAt", "created_at",
+            "title", "title",
+            "company", "company",
+            "location", "location",
+            "salaryRange", "salary_range"
+    );
+    
+    @PersistenceContext
+    private EntityManager entityManager;
+    
+    @Override
+    public Page<Job> fullTextSearch(JobSearchCriteria criteria, Pageable pageable) {
+        List<Job> content = select(criteria, pageable, pageable.getPageSize());
+        return new PageImpl<>(content, pageable, fullTextCount(criteria));
+    }
+    
+    @Override
+    public Slice<Job> fullTextSlice(JobSearchCriteria criteria, Pageable pageable) {
+        int size = pageable.getPageSize();
+        List<Job> rows = select(criteria, pageable, size + 1);
+        boolean hasNext = rows.size() > size;
+        return new SliceImpl<>(hasNext ? rows.subList(0, size) : rows, pageable, hasNext);
+    }
+    
+    @Override
+    public long fullTextCount(JobSearchCriteria criteria) {
+        Map<String, Object> params = new HashMap<>();
+        String where = buildWhere(criteria, params);
+        
+        Query count = entityManager.createNativeQuery("SELECT count(*) FROM jobs j" + where);
+        params.forEach(count::setParameter);
+        return ((Number) count.getSingleResult()).longValue();
+    }
+    
+    @SuppressWarnings("unchecked")
+    private List<Job> select(JobSearchCriteria criteria, Pageable pageable, int limit) {
+        Map<String, Object> params = new HashMap<>();
+        String where = buildWhere(criteria, params);
+        
+        String orderBy = criteria.hasQuery()
+                ? "ts_rank(j.search_vector, " + TS_QUERY + ") DESC, j.posted_at DESC, j.id"
+                : buildOrderBy(pageable.getSort());
+        
+        Query select = entityManager.createNativeQuery(
+                "SELECT j.* FROM jobs j" + where + " ORDER BY " + orderBy, Job.class);
+        params.forEach(select::setParameter);
+        select.setFirstResult((int) pageable.getOffset());
+        select.setMaxResults(limit);
+        return select.getResultList();
+    }
+    
+    private String buildWhere(JobSearchCriteria criteria, Map<String, Object> params) {
+        List<String> clauses = new ArrayList<>();
+        
+        if (criteria.hasQuery()) {
+            clauses.add("j.search_vector @@ " + TS_QUERY);
+            params.put("query", criteria.getQuery().trim());
+        }
+        
+        // ILIKE with a leading wildcard is served by the gin_trgm_ops indexes
+        addSubstring(clauses, params, "company", criteria.getCompany());
+        addSubstring(clauses, params, "location", criteria.getLocation());
+        addSubstring(clauses, params, "title", criteria.getTitle());
+        
+        List<String> tags = TagNormalizer.normalize(criteria.getTags());
+        if (tags != null && !tags.isEmpty()) {
+            List<String> placeholders = new ArrayList<>();
+            for (int i = 0; i < tags.size(); i++) {
+                placeholders.add("CAST(:tag" + i + " AS text)");
+                params.put("tag" + i, tags.get(i));
+            }
+            String operator = criteria.getTagMode() == TagMode.ALL ? " @> " : " && ";
+            clauses.add("j.tags" + operator + "ARRAY[" + String.join(", ", placeholders) + "]");
+        }
+        
+        return clauses.isEmpty() ? "" : " WHERE " + String.join(" AND ", clauses);
+    }
+    
+    private void addSubstring(List<String> clauses, Map<String, Object> params, String column, String value) {
+        if (value != null && !value.trim().isEmpty()) {
+            clauses.add("j." + column + " ILIKE :" + column);
+            params.put(column, "%" + escapeLike(value.trim()) + "%");
+        }
+    }
+    
+    private String buildOrderBy(Sort sort) {
+        List<String> orders = new ArrayList<>();
+        for (Sort.Order order : sort) {
+            String column = SORT_COLUMNS.get(order.getProperty());
+            if (column == null) {
+                throw new IllegalArgumentException("Unsupported sort field: " + order.getProperty());
+            }
+            orders.add("j." + column + (order.isAscending() ? " ASC" : " DESC"));
+        }
+        orders.add("j.id");
+        return String.join(", ", orders);
+    }
+    
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
@@ -1,20 +1,38 @@
 package com.referralnode.repository;
 
 import com.referralnode.entity.Job;
+import com.referralnode.repository.projection.JobStatsView;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.UUID;
 
 @Repository
-public interface JobRepository extends JpaRepository<Job, UUID>, JpaSpecificationExecutor<Job> {
+public interface JobRepository extends JpaRepository<Job, UUID>, JpaSpecificationExecutor<Job>,
+        JobFullTextRepository, JobSliceRepository, JobBatchRepository, JobStreamRepository {
     
     // Find jobs by company name (useful for Referral agent later)
     Page<Job> findByCompanyContainingIgnoreCase(String company, Pageable pageable);
     
     // Basic search functionality
     Page<Job> findByTitleContainingIgnoreCaseOrCompanyContainingIgnoreCase(String title, String company, Pageable pageable);
+    
+    // Columns needed to rebuild the dashboard rollup (no description/tags)
+    @Query("SELECT j.id AS id, j.title AS title, j.company AS company, " +
+           "j.location AS location, j.createdAt AS createdAt FROM Job j")
+    List<JobStatsView> findAllStatsViews();
+    
+    // Rows written before content hashes existed, for backfilling
+    Slice<Job> findByContentHashIsNull(Pageable pageable);
+    
+    // Planner row estimate for the whole table; -1 until the table has been analyzed
+    @Query(value = "SELECT CAST(reltuples AS bigint) FROM pg_class WHERE oid = CAST('jobs' AS regclass)",
+           nativeQuery = true)
+    long estimateRowCount();
 }
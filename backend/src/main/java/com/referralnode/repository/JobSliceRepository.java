@@ -0,0 +1,22 @@
+package com.referralnode.repository;
+
+import com.referralnode.dto.JobSummary;
+import com.referralnode.entity.Job;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+
+/**
+ * Count-free paging: fetches one row beyond the page to tell whether more exist
+ */
+public interface JobSliceRepository {
+    
+    Slice<Job> findSlice(Specification<Job> spec, Pageable pageable);
+    
+    /**
+     * Same paging, selecting only the given {@link JobSummary} fields instead of whole entities
+     */
+    Slice<JobSummary> findSummarySlice(Specification<Job> spec, Pageable pageable, List<String> fields);
+}
@@ -0,0 +1,102 @@
+package com.referralnode.repository;
+
+import com.referralnode.dto.JobSummary;
+import com.referralnode.entity.Job;
+import com.referralnode.util.CategoryDictionary;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+public class JobSliceRepositoryImpl implements JobSliceRepository {
+    
+    @PersistenceContext
+    private EntityManager entityManager;
+    
+    @Override
+    public Slice<Job> findSlice(Specification<Job> spec, Pageable pageable) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Job> query = criteriaBuilder.createQuery(Job.class);
+        Root<Job> root = query.from(Job.class);
+        
+        filterAndSort(query, root, criteriaBuilder, spec, pageable);
+        return toSlice(fetch(query, pageable), pageable);
+    }
+    
+    @Override
+    public Slice<JobSummary> findSummarySlice(Specification<Job> spec, Pageable pageable, List<String> fields) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = criteriaBuilder.createTupleQuery();
+        Root<Job> root = query.from(Job.class);
+        
+        // Fields are JobSummary property names, which match the entity attributes
+        query.multiselect(fields.stream()
+                .<Selection<?>>map(field -> root.get(field).alias(field))
+                .toList());
+        filterAndSort(query, root, criteriaBuilder, spec, pageable);
+        
+        List<JobSummary> rows = fetch(query, pageable).stream()
+                .map(tuple -> toSummary(tuple, fields))
+                .toList();
+        return toSlice(rows, pageable);
+    }
+    
+    private static void filterAndSort(CriteriaQuery<?> query, Root<Job> root, CriteriaBuilder criteriaBuilder,
+                                      Specification<Job> spec, Pageable pageable) {
+        Predicate predicate = spec.toPredicate(root, query, criteriaBuilder);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.orderBy(QueryUtils.toOrders(pageable.getSort(), root, criteriaBuilder));
+    }
+    
+    // One row beyond the page tells whether another page exists
+    private <T> List<T> fetch(CriteriaQuery<T> query, Pageable pageable) {
+        return entityManager.createQuery(query)
+                .setFirstResult((int) pageable.getOffset())
+                .setMaxResults(pageable.getPageSize() + 1)
+                .getResultList();
+    }
+    
+    private static <T> Slice<T> toSlice(List<T> rows, Pageable pageable) {
+        int size = pageable.getPageSize();
+        boolean hasNext = rows.size() > size;
+        return new SliceImpl<>(hasNext ? rows.subList(0, size) : rows, pageable, hasNext);
+    }
+    
+    @SuppressWarnings("unchecked")
+    private static JobSummary toSummary(Tuple tuple, List<String> fields) {
+        JobSummary summary = new JobSummary();
+        for (String field : fields) {
+            Object value = tuple.get(field);
+            switch (field) {
+                case "id" -> summary.setId((UUID) value);
+                case "title" -> summary.setTitle((String) value);
+                case "company" -> summary.setCompany(CategoryDictionary.canonical((String) value));
+                case "location" -> summary.setLocation(CategoryDictionary.canonical((String) value));
+                case "salaryRange" -> summary.setSalaryRange((String) value);
+                case "postedAt" -> summary.setPostedAt((LocalDateTime) value);
+                case "sourceUrl" -> summary.setSourceUrl((String) value);
+                case "tags" -> summary.setTags(CategoryDictionary.canonicalAll((List<String>) value));
+                case "createdAt" -> summary.setCreatedAt((LocalDateTime) value);
+                case "updatedAt" -> summary.setUpdatedAt((LocalDateTime) value);
+                case "descriptionPreview" -> summary.setDescriptionPreview((String) value);
+                default -> throw new IllegalArgumentException("Unknown field '" + field + "'");
+            }
+        }
+        return summary;
+    }
+}
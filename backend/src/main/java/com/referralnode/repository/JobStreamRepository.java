@@ -0,0 +1,18 @@
+package com.referralnode.repository;
+
+import com.referralnode.entity.Job;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.stream.Stream;
+
+/**
+ * Full-result streaming over a server-side cursor, for exports
+ */
+public interface JobStreamRepository {
+    
+    /**
+     * Stream matching jobs as detached entities.
+     * Must be consumed and closed inside a read-only transaction.
+     */
+    Stream<Job> streamAll(Specification<Job> spec);
+}
@@ -0,0 +1,46 @@
+package com.referralnode.repository;
+
+import com.referralnode.entity.Job;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.hibernate.jpa.AvailableHints;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.stream.Stream;
+
+public class JobStreamRepositoryImpl implements JobStreamRepository {
+    
+    @PersistenceContext
+    private EntityManager entityManager;
+    
+    @Value("${export.fetch-size:1000}")
+    private int fetchSize;
+    
+    @Override
+    public Stream<Job> streamAll(Specification<Job> spec) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Job> query = criteriaBuilder.createQuery(Job.class);
+        Root<Job> root = query.from(Job.class);
+        
+        Predicate predicate = spec.toPredicate(root, query, criteriaBuilder);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        
+        // The PostgreSQL driver only uses a cursor when a fetch size is set and autocommit is off;
+        // read-only skips dirty-checking snapshots for the loaded entities
+        Stream<Job> rows = entityManager.createQuery(query)
+                .setHint(AvailableHints.HINT_FETCH_SIZE, fetchSize)
+                .setHint(AvailableHints.HINT_READ_ONLY, true)
+                .getResultStream();
+        
+        // All attributes are basic columns, so entities can be detached as soon as they are read;
+        // the persistence context never holds more than one row
+        return rows.peek(entityManager::detach);
+    }
+}
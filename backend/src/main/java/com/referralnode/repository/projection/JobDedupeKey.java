@@ -0,0 +1,10 @@
+package com.referralnode.repository.projection;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Identity and fingerprint of a stored job, used to classify incoming duplicates
+ */
+public record JobDedupeKey(UUID id, String sourceUrl, String contentHash, LocalDateTime createdAt) {
+}
@@ -0,0 +1,21 @@
+package com.referralnode.repository.projection;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Narrow projection of a job used to rebuild dashboard statistics
+ * without loading descriptions or tags.
+ */
+public interface JobStatsView {
+
+    UUID getId();
+
+    String getTitle();
+
+    String getCompany();
+
+    String getLocation();
+
+    LocalDateTime getCreatedAt();
+}
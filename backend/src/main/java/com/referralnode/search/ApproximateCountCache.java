@@ -0,0 +1,85 @@
+package com.referralnode.search;
+
+import com.referralnode.metrics.QueryMetrics;
+import com.referralnode.repository.JobRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Short-lived per-filter counts for {@link TotalMode#APPROX} listings.
+ * <p>
+ * Unfiltered listings use the planner's row estimate; filtered ones pay for
+ * one exact count per filter combination per TTL. Only those database calls are
+ * timed (operation "approx-count"); cache hits are not.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ApproximateCountCache {
+
+    private final JobSearchEngine jobSearchEngine;
+    private final JobRepository jobRepository;
+    private final QueryMetrics queryMetrics;
+
+    @Value("${listing.count-cache.ttl-ms:30000}")
+    private long ttlMillis;
+
+    @Value("${listing.count-cache.max-entries:10000}")
+    private int maxEntries;
+
+    private record Entry(long count, long expiresAt) {
+    }
+
+    // Access-ordered so the least recently used filter combination is evicted first
+    private final Map<JobSearchCriteria, Entry> entries = new LinkedHashMap<>(256, 0.75f, true);
+
+    public long estimate(JobSearchCriteria criteria) {
+        long now = System.currentTimeMillis();
+        synchronized (entries) {
+            Entry cached = entries.get(criteria);
+            if (cached != null && cached.expiresAt() > now) {
+                return cached.count();
+            }
+        }
+
+        long count = queryMetrics.record("approx-count", criteria,
+                () -> isUnfiltered(criteria) ? plannerEstimate(criteria) : jobSearchEngine.count(criteria));
+
+        synchronized (entries) {
+            entries.put(criteria, new Entry(count, now + ttlMillis));
+            if (entries.size() > maxEntries) {
+                entries.remove(entries.keySet().iterator().next());
+            }
+        }
+        return count;
+    }
+
+    private long plannerEstimate(JobSearchCriteria criteria) {
+        try {
+            long estimate = jobRepository.estimateRowCount();
+            if (estimate >= 0) {
+                return estimate;
+            }
+        } catch (RuntimeException ex) {
+            log.debug("Planner estimate unavailable, falling back to count", ex);
+        }
+        return jobSearchEngine.count(criteria);
+    }
+
+    private static boolean isUnfiltered(JobSearchCriteria criteria) {
+        return !criteria.hasQuery()
+                && isBlank(criteria.getCompany())
+                && isBlank(criteria.getLocation())
+                && isBlank(criteria.getTitle())
+                && (criteria.getTags() == null || criteria.getTags().isEmpty());
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.trim().isEmpty();
+    }
+}
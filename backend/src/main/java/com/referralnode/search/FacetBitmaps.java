@@ -0,0 +1,249 @@
+package com.referralnode.search;
+
+import com.referralnode.dto.FacetCount;
+import com.referralnode.util.CategoryDictionary;
+import com.referralnode.util.TagNormalizer;
+import org.roaringbitmap.FastAggregation;
+import org.roaringbitmap.IntIterator;
+import org.roaringbitmap.RoaringBitmap;
+
+import java.util.*;
+import java.util.function.BiConsumer;
+
+/**
+ * Compressed bitmaps over dense integer job ordinals: one per company, location and tag value.
+ * <p>
+ * Filters become unions and intersections of bitmaps, and a facet count is the cardinality
+ * of a value's bitmap intersected with the result set, so neither touches individual jobs
+ * (the title substring filter is the exception; it checks the titles of the remaining ordinals).
+ * Values are grouped case-insensitively and labelled with the first spelling seen.
+ * Updates append a fresh ordinal and clear the old one from every bitmap; ordinals are
+ * renumbered once tombstones make up a quarter of them.
+ * Not thread-safe; {@link FacetIndex} guards access.
+ */
+final class FacetBitmaps {
+
+    private static final Comparator<FacetCount> BEST_FIRST = Comparator
+            .comparingLong(FacetCount::getCount).reversed()
+            .thenComparing(FacetCount::getValue);
+
+    /**
+     * Faceted fields of an indexed job. The title is lowercased for substring filtering;
+     * company, location and tags are ids in this instance's {@link CategoryDictionary}.
+     */
+    record Doc(UUID id, String title, int company, int location, int[] tags) {
+    }
+
+    private final CategoryDictionary dictionary = new CategoryDictionary();
+
+    private static final class Value {
+        final String label;
+        final RoaringBitmap ordinals = new RoaringBitmap();
+
+        Value(String label) {
+            this.label = label;
+        }
+    }
+
+    private final Map<UUID, Integer> ordinals = new HashMap<>();
+
+    // ordinal -> document, null once tombstoned
+    private final List<Doc> docs = new ArrayList<>();
+    private final RoaringBitmap live = new RoaringBitmap();
+    private final Map<FacetField, Map<String, Value>> values = new EnumMap<>(FacetField.class);
+
+    FacetBitmaps() {
+        for (FacetField field : FacetField.values()) {
+            values.put(field, new HashMap<>());
+        }
+    }
+
+    int size() {
+        return ordinals.size();
+    }
+
+    CategoryDictionary dictionary() {
+        return dictionary;
+    }
+
+    /**
+     * Index a document under its facet values, replacing any previous version
+     */
+    void upsert(Doc doc) {
+        remove(doc.id());
+
+        int ordinal = docs.size();
+        docs.add(doc);
+        ordinals.put(doc.id(), ordinal);
+        live.add(ordinal);
+        forEachValue(doc, (field, value) -> values.get(field)
+                .computeIfAbsent(key(value), key -> new Value(value.trim()))
+                .ordinals.add(ordinal));
+    }
+
+    void remove(UUID id) {
+        Integer ordinal = ordinals.remove(id);
+        if (ordinal == null) {
+            return;
+        }
+        Doc doc = docs.set(ordinal, null);
+        live.remove(ordinal);
+        forEachValue(doc, (field, value) -> {
+            Map<String, Value> byKey = values.get(field);
+            Value entry = byKey.get(key(value));
+            if (entry != null) {
+                entry.ordinals.remove(ordinal);
+                if (entry.ordinals.isEmpty()) {
+                    byKey.remove(key(value));
+                }
+            }
+        });
+
+        int tombstones = docs.size() - ordinals.size();
+        if (tombstones > 64 && tombstones * 4 > docs.size()) {
+            compact();
+        }
+    }
+
+    /**
+     * Ordinals of the given jobs; ids that are not indexed are skipped
+     */
+    RoaringBitmap ordinalsOf(Collection<UUID> ids) {
+        RoaringBitmap result = new RoaringBitmap();
+        for (UUID id : ids) {
+            Integer ordinal = ordinals.get(id);
+            if (ordinal != null) {
+                result.add(ordinal);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Live ordinals passing the filters, limited to candidates when given.
+     * Same semantics as JobSpecification: case-insensitive substring match on text fields,
+     * any-of or all-of on tags.
+     */
+    RoaringBitmap filter(RoaringBitmap candidates, String company, String location, String title,
+                         List<String> tags, TagMode tagMode) {
+        RoaringBitmap result = candidates == null ? live.clone() : RoaringBitmap.and(candidates, live);
+        if (isSet(company)) {
+            result.and(containing(FacetField.COMPANY, company));
+        }
+        if (isSet(location)) {
+            result.and(containing(FacetField.LOCATION, location));
+        }
+        List<String> wanted = TagNormalizer.normalize(tags);
+        if (wanted != null && !wanted.isEmpty()) {
+            result.and(tagMode == TagMode.ALL ? allTags(wanted) : anyTag(wanted));
+        }
+        if (isSet(title)) {
+            String needle = title.toLowerCase(Locale.ROOT);
+            RoaringBitmap matching = new RoaringBitmap();
+            IntIterator it = result.getIntIterator();
+            while (it.hasNext()) {
+                int ordinal = it.next();
+                String docTitle = docs.get(ordinal).title();
+                if (docTitle != null && docTitle.contains(needle)) {
+                    matching.add(ordinal);
+                }
+            }
+            result = matching;
+        }
+        return result;
+    }
+
+    /**
+     * The most frequent values of a field within the result set, most frequent first
+     */
+    List<FacetCount> top(FacetField field, RoaringBitmap result, int limit) {
+        // Min-heap of the best limit values seen so far
+        PriorityQueue<FacetCount> best = new PriorityQueue<>(limit + 1, BEST_FIRST.reversed());
+        for (Value value : values.get(field).values()) {
+            long count = RoaringBitmap.andCardinality(value.ordinals, result);
+            if (count == 0) {
+                continue;
+            }
+            FacetCount candidate = new FacetCount(value.label, count);
+            if (best.size() < limit) {
+                best.add(candidate);
+            } else if (BEST_FIRST.compare(candidate, best.peek()) < 0) {
+                best.poll();
+                best.add(candidate);
+            }
+        }
+        List<FacetCount> counts = new ArrayList<>(best);
+        counts.sort(BEST_FIRST);
+        return counts;
+    }
+
+    // Union of every value whose key contains the needle; far fewer values than jobs
+    private RoaringBitmap containing(FacetField field, String needle) {
+        String lowered = needle.toLowerCase(Locale.ROOT);
+        List<RoaringBitmap> matches = new ArrayList<>();
+        values.get(field).forEach((key, value) -> {
+            if (key.contains(lowered)) {
+                matches.add(value.ordinals);
+            }
+        });
+        return matches.isEmpty() ? new RoaringBitmap() : FastAggregation.or(matches.iterator());
+    }
+
+    private RoaringBitmap anyTag(List<String> tags) {
+        List<RoaringBitmap> matches = new ArrayList<>();
+        for (String tag : tags) {
+            Value value = values.get(FacetField.TAGS).get(tag);
+            if (value != null) {
+                matches.add(value.ordinals);
+            }
+        }
+        return matches.isEmpty() ? new RoaringBitmap() : FastAggregation.or(matches.iterator());
+    }
+
+    private RoaringBitmap allTags(List<String> tags) {
+        List<RoaringBitmap> matches = new ArrayList<>();
+        for (String tag : tags) {
+            Value value = values.get(FacetField.TAGS).get(tag);
+            if (value == null) {
+                return new RoaringBitmap();
+            }
+            matches.add(value.ordinals);
+        }
+        return FastAggregation.and(matches.iterator());
+    }
+
+    // Rebuild from the live documents with dense ordinals
+    private void compact() {
+        List<Doc> liveDocs = docs.stream().filter(Objects::nonNull).toList();
+        ordinals.clear();
+        docs.clear();
+        live.clear();
+        values.values().forEach(Map::clear);
+        liveDocs.forEach(this::upsert);
+    }
+
+    private void forEachValue(Doc doc, BiConsumer<FacetField, String> consumer) {
+        String company = dictionary.decode(doc.company());
+        if (isSet(company)) {
+            consumer.accept(FacetField.COMPANY, company);
+        }
+        String location = dictionary.decode(doc.location());
+        if (isSet(location)) {
+            consumer.accept(FacetField.LOCATION, location);
+        }
+        for (int id : doc.tags()) {
+            String tag = dictionary.decode(id);
+            if (isSet(tag)) {
+                consumer.accept(FacetField.TAGS, tag);
+            }
+        }
+    }
+
+    private static String key(String value) {
+        return value.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static boolean isSet(String value) {
+        return value != null && !value.trim().isEmpty();
+    }
+}
@@ -0,0 +1,48 @@
+package com.referralnode.search;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Job attributes that facet counts can be requested for
+ */
+@Getter
+@RequiredArgsConstructor
+public enum FacetField {
+    
+    COMPANY("company"),
+    LOCATION("location"),
+    TAGS("tags");
+    
+    // Key in the response's facets map
+    private final String name;
+    
+    /**
+     * Parse a comma-separated list such as "company,tags"; blank means no facets
+     */
+    public static List<FacetField> parseAll(String value) {
+        List<FacetField> fields = new ArrayList<>();
+        if (value == null || value.isBlank()) {
+            return fields;
+        }
+        for (String name : value.split(",")) {
+            FacetField field = parse(name);
+            if (!fields.contains(field)) {
+                fields.add(field);
+            }
+        }
+        return fields;
+    }
+    
+    private static FacetField parse(String name) {
+        try {
+            return valueOf(name.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException ex) {
+            throw new IllegalArgumentException("Unsupported facet: " + name + " (use company, location or tags)");
+        }
+    }
+}
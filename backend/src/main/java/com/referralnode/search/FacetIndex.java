@@ -0,0 +1,180 @@
+package com.referralnode.search;
+
+import com.referralnode.datasource.ReadRouting;
+import com.referralnode.dto.FacetCount;
+import com.referralnode.dto.JobSummary;
+import com.referralnode.entity.Job;
+import com.referralnode.event.JobChangedEvent;
+import com.referralnode.repository.JobRepository;
+import com.referralnode.util.CategoryDictionary;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.*;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Facet counts (jobs per company, location and tag) for listing and search results,
+ * computed from in-memory bitmaps instead of a GROUP BY per facet.
+ * <p>
+ * Built from the database at startup, kept current from {@link JobChangedEvent}s
+ * and rebuilt on a long fixed delay to repair any drift, like {@link JobSearchIndex}.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class FacetIndex {
+
+    // Only the faceted and filtered columns; descriptions are never loaded
+    private static final List<String> COLUMNS = List.of("id", "title", "company", "location", "tags");
+
+    private final JobRepository jobRepository;
+    private final ObjectProvider<JobSearchIndex> jobSearchIndex;
+
+    @Value("${search.facets.batch-size:1000}")
+    private int batchSize;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+
+    // Guarded by lock
+    private FacetBitmaps bitmaps = new FacetBitmaps();
+
+    // Events seen while a rebuild is reading the database. Guarded by lock
+    private List<JobChangedEvent> journal;
+
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        rebuild();
+    }
+
+    @Scheduled(
+            initialDelayString = "${search.facets.rebuild-interval-ms:3600000}",
+            fixedDelayString = "${search.facets.rebuild-interval-ms:3600000}")
+    public void reconcile() {
+        rebuild();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onJobChanged(JobChangedEvent event) {
+        lock.writeLock().lock();
+        try {
+            apply(bitmaps, event.getJobId(), event.getJob());
+            if (journal != null) {
+                journal.add(event);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * The most frequent values of each field among all jobs matching the criteria,
+     * keyed by {@link FacetField#getName()} in the requested order
+     */
+    public Map<String, List<FacetCount>> count(JobSearchCriteria criteria, List<FacetField> fields, int limit) {
+        // A text query narrows the candidates to the search index's full hit set
+        List<UUID> matches = criteria.hasQuery() ? textMatches(criteria.getQuery()) : null;
+
+        Map<String, List<FacetCount>> facets = new LinkedHashMap<>();
+        lock.readLock().lock();
+        try {
+            RoaringBitmap candidates = matches == null ? null : bitmaps.ordinalsOf(matches);
+            RoaringBitmap result = bitmaps.filter(candidates, criteria.getCompany(), criteria.getLocation(),
+                    criteria.getTitle(), criteria.getTags(), criteria.getTagMode());
+            for (FacetField field : fields) {
+                facets.put(field.getName(), bitmaps.top(field, result, limit));
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return facets;
+    }
+
+    private List<UUID> textMatches(String query) {
+        JobSearchIndex index = jobSearchIndex.getIfAvailable();
+        if (index == null) {
+            throw new IllegalArgumentException("facets can only be combined with q when search.engine=index");
+        }
+        return index.matchingIds(query);
+    }
+
+    /**
+     * Rebuild the bitmaps from the database in id-ordered batches and swap them in
+     */
+    public void rebuild() {
+        if (!rebuildLock.tryLock()) {
+            log.debug("Facet index rebuild already in progress, skipping");
+            return;
+        }
+        // The journal only covers events from here on; a lagging replica snapshot could predate them
+        try (ReadRouting.Scope primary = ReadRouting.primary()) {
+            setJournal(new ArrayList<>());
+
+            FacetBitmaps fresh = new FacetBitmaps();
+            try {
+                IdBatches.forEach(batchSize,
+                        (spec, request) -> jobRepository.findSummarySlice(spec, request, COLUMNS),
+                        JobSummary::getId,
+                        job -> fresh.upsert(toDoc(fresh, job.getId(), job.getTitle(), job.getCompany(),
+                                job.getLocation(), job.getTags())));
+            } catch (RuntimeException ex) {
+                setJournal(null);
+                log.warn("Failed to rebuild facet index, keeping previous index", ex);
+                return;
+            }
+
+            lock.writeLock().lock();
+            try {
+                for (JobChangedEvent event : journal) {
+                    apply(fresh, event.getJobId(), event.getJob());
+                }
+                journal = null;
+                bitmaps = fresh;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            log.info("Rebuilt facet index with {} jobs", fresh.size());
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    private void setJournal(List<JobChangedEvent> value) {
+        lock.writeLock().lock();
+        try {
+            journal = value;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // job is null for a deletion
+    private static void apply(FacetBitmaps target, UUID id, Job job) {
+        if (job == null) {
+            target.remove(id);
+        } else {
+            target.upsert(toDoc(target, job.getId(), job.getTitle(), job.getCompany(), job.getLocation(),
+                    job.getTags()));
+        }
+    }
+
+    // Ids come from the target's own dictionary, which is dropped with it on the next rebuild
+    private static FacetBitmaps.Doc toDoc(FacetBitmaps target, UUID id, String title, String company,
+                                          String location, List<String> tags) {
+        CategoryDictionary dictionary = target.dictionary();
+        return new FacetBitmaps.Doc(id, title == null ? null : title.toLowerCase(Locale.ROOT),
+                dictionary.encode(company), dictionary.encode(location), dictionary.encodeAll(tags));
+    }
+}
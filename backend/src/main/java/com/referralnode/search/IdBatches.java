@@ -0,0 +1,44 @@
+package com.referralnode.search;
+
+import com.referralnode.entity.Job;
+import com.referralnode.specification.JobSpecification;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.UUID;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Reads the whole jobs table in id order for the index rebuilds. Every batch seeks past the last
+ * id of the one before ({@code WHERE id > :lastId ORDER BY id LIMIT :batch}), so late batches cost
+ * the same as early ones instead of scanning and discarding an ever larger OFFSET.
+ */
+final class IdBatches {
+
+    private IdBatches() {
+    }
+
+    /**
+     * @param fetch runs one batch query for a filter and a first-page request sorted by id
+     */
+    static <T> void forEach(int batchSize,
+                            BiFunction<Specification<Job>, Pageable, Slice<T>> fetch,
+                            Function<T, UUID> idOf,
+                            Consumer<T> consumer) {
+        Pageable request = PageRequest.of(0, batchSize, Sort.by("id"));
+        UUID lastId = null;
+        Slice<T> batch;
+        do {
+            batch = fetch.apply(JobSpecification.idAfter(lastId), request);
+            for (T row : batch) {
+                consumer.accept(row);
+                lastId = idOf.apply(row);
+            }
+        } while (batch.hasNext());
+    }
+}
@@ -0,0 +1,73 @@
+package com.referralnode.search;
+
+import com.referralnode.entity.Job;
+import com.referralnode.repository.JobRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Ranks free-text queries with the in-process {@link JobSearchIndex}; plain
+ * filtered listings fall through to the specification engine.
+ */
+@Component
+@Primary
+@ConditionalOnProperty(name = "search.engine", havingValue = "index", matchIfMissing = true)
+@RequiredArgsConstructor
+public class IndexSearchEngine implements JobSearchEngine {
+
+    private final JobSearchIndex jobSearchIndex;
+    private final SpecificationSearchEngine specificationSearchEngine;
+    private final JobRepository jobRepository;
+
+    @Override
+    public Page<Job> search(JobSearchCriteria criteria, Pageable pageable) {
+        if (!criteria.hasQuery()) {
+            return specificationSearchEngine.search(criteria, pageable);
+        }
+
+        JobSearchIndex.Result result = jobSearchIndex.search(criteria.getQuery(), criteria.getCompany(),
+                criteria.getLocation(), criteria.getTitle(), criteria.getTags(), criteria.getTagMode(),
+                pageable.getPageNumber(), pageable.getPageSize());
+
+        // Hydrate the ranked ids in one query, then restore ranking order
+        Map<UUID, Job> jobsById = jobRepository.findAllById(result.ids()).stream()
+                .collect(Collectors.toMap(Job::getId, Function.identity()));
+        List<Job> content = result.ids().stream()
+                .map(jobsById::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+
+        return new PageImpl<>(content, pageable, result.totalHits());
+    }
+
+    // Ranking already yields the exact hit count, so a slice costs nothing extra
+    @Override
+    public Slice<Job> searchSlice(JobSearchCriteria criteria, Pageable pageable) {
+        if (!criteria.hasQuery()) {
+            return specificationSearchEngine.searchSlice(criteria, pageable);
+        }
+        return search(criteria, pageable);
+    }
+
+    @Override
+    public long count(JobSearchCriteria criteria) {
+        if (!criteria.hasQuery()) {
+            return specificationSearchEngine.count(criteria);
+        }
+        return search(criteria, PageRequest.of(0, 1)).getTotalElements();
+    }
+}
@@ -0,0 +1,250 @@
+package com.referralnode.search;
+
+import com.referralnode.util.CategoryDictionary;
+
+import java.util.*;
+import java.util.function.Predicate;
+
+/**
+ * BM25-ranked inverted index over dense integer document ordinals.
+ * <p>
+ * Posting lists are parallel primitive arrays of ordinals and weighted term
+ * frequencies. Updates append a fresh ordinal and tombstone the old one;
+ * tombstones are purged once they make up a quarter of the index.
+ * Not thread-safe; {@link JobSearchIndex} guards access.
+ */
+final class InvertedIndex {
+
+    private static final float K1 = 1.2f;
+    private static final float B = 0.75f;
+
+    static final int TITLE_WEIGHT = 3;
+    static final int COMPANY_WEIGHT = 2;
+    static final int TAG_WEIGHT = 2;
+    static final int DESCRIPTION_WEIGHT = 1;
+
+    /**
+     * Lowercased filterable fields of an indexed job. Company, location and the sorted tags
+     * are ids in this index's {@link CategoryDictionary}, so a million docs share one copy of
+     * each value.
+     */
+    record Doc(UUID id, String title, int company, int location, int[] tags) {
+    }
+
+    record Hits(long total, List<UUID> ids) {
+    }
+
+    // Replaced with the index on rebuild, so values of deleted jobs do not outlive it
+    private final CategoryDictionary dictionary = new CategoryDictionary();
+
+    private final Map<String, Postings> postings = new HashMap<>();
+    private final Map<UUID, Integer> ordinals = new HashMap<>();
+
+    // ordinal -> document, null once tombstoned
+    private final List<Doc> docs = new ArrayList<>();
+    private int[] lengths = new int[1024];
+    private long totalLength;
+    private int liveDocs;
+
+    int size() {
+        return liveDocs;
+    }
+
+    CategoryDictionary dictionary() {
+        return dictionary;
+    }
+
+    /**
+     * Index a document under its weighted fields, replacing any previous version
+     */
+    void upsert(Doc doc, String title, String company, List<String> tags, String description) {
+        remove(doc.id());
+
+        Map<String, Integer> termFreqs = new HashMap<>();
+        int length = addTerms(termFreqs, title, TITLE_WEIGHT)
+                + addTerms(termFreqs, company, COMPANY_WEIGHT)
+                + addTerms(termFreqs, description, DESCRIPTION_WEIGHT);
+        if (tags != null) {
+            for (String tag : tags) {
+                length += addTerms(termFreqs, tag, TAG_WEIGHT);
+            }
+        }
+
+        int ordinal = docs.size();
+        docs.add(doc);
+        ordinals.put(doc.id(), ordinal);
+        if (ordinal == lengths.length) {
+            lengths = Arrays.copyOf(lengths, lengths.length * 2);
+        }
+        lengths[ordinal] = length;
+        totalLength += length;
+        liveDocs++;
+
+        termFreqs.forEach((term, tf) -> postings.computeIfAbsent(term, t -> new Postings()).add(ordinal, tf));
+    }
+
+    private static int addTerms(Map<String, Integer> termFreqs, String text, int weight) {
+        int length = 0;
+        for (String term : Tokenizer.tokenize(text)) {
+            termFreqs.merge(term, weight, Integer::sum);
+            length += weight;
+        }
+        return length;
+    }
+
+    void remove(UUID id) {
+        Integer ordinal = ordinals.remove(id);
+        if (ordinal == null) {
+            return;
+        }
+        docs.set(ordinal, null);
+        totalLength -= lengths[ordinal];
+        liveDocs--;
+
+        int tombstones = docs.size() - liveDocs;
+        if (tombstones > 64 && tombstones * 4 > docs.size()) {
+            compact();
+        }
+    }
+
+    /**
+     * Rank live documents matching any of the terms and passing the filter
+     */
+    Hits search(Collection<String> terms, Predicate<Doc> filter, int topK) {
+        if (liveDocs == 0 || terms.isEmpty()) {
+            return new Hits(0, List.of());
+        }
+
+        float avgLength = Math.max(1f, (float) totalLength / liveDocs);
+        float[] scores = new float[docs.size()];
+        int[] touched = new int[16];
+        int touchedCount = 0;
+
+        for (String term : new LinkedHashSet<>(terms)) {
+            Postings list = postings.get(term);
+            if (list == null) {
+                continue;
+            }
+            // list.size still counts tombstones until the next compaction, so clamp idf above zero
+            double idf = Math.max(1e-3, Math.log(1 + Math.max(0, liveDocs - list.size + 0.5) / (list.size + 0.5)));
+            for (int i = 0; i < list.size; i++) {
+                int ordinal = list.docs[i];
+                if (docs.get(ordinal) == null) {
+                    continue;
+                }
+                int tf = list.freqs[i];
+                float norm = K1 * (1 - B + B * lengths[ordinal] / avgLength);
+                if (scores[ordinal] == 0f) {
+                    if (touchedCount == touched.length) {
+                        touched = Arrays.copyOf(touched, touchedCount * 2);
+                    }
+                    touched[touchedCount++] = ordinal;
+                }
+                scores[ordinal] += (float) (idf * tf * (K1 + 1) / (tf + norm));
+            }
+        }
+
+        // Min-heap of the best topK ordinals; newer ordinals win ties. It never holds more than
+        // the candidates, so it is sized by those rather than by a caller-supplied topK
+        Comparator<Integer> byScore = Comparator.<Integer>comparingDouble(o -> scores[o]).thenComparingInt(o -> o);
+        PriorityQueue<Integer> heap = new PriorityQueue<>(Math.max(1, Math.min(topK, touchedCount)), byScore);
+        long total = 0;
+        for (int i = 0; i < touchedCount; i++) {
+            int ordinal = touched[i];
+            if (!filter.test(docs.get(ordinal))) {
+                continue;
+            }
+            total++;
+            if (heap.size() < topK) {
+                heap.add(ordinal);
+            } else if (topK > 0 && byScore.compare(ordinal, heap.peek()) > 0) {
+                heap.poll();
+                heap.add(ordinal);
+            }
+        }
+
+        UUID[] ranked = new UUID[heap.size()];
+        for (int i = ranked.length - 1; i >= 0; i--) {
+            ranked[i] = docs.get(heap.poll()).id();
+        }
+        return new Hits(total, Arrays.asList(ranked));
+    }
+
+    /**
+     * Ids of live documents matching any of the terms, unranked and unfiltered
+     */
+    List<UUID> matching(Collection<String> terms) {
+        BitSet matched = new BitSet(docs.size());
+        for (String term : new LinkedHashSet<>(terms)) {
+            Postings list = postings.get(term);
+            if (list != null) {
+                for (int i = 0; i < list.size; i++) {
+                    matched.set(list.docs[i]);
+                }
+            }
+        }
+        List<UUID> ids = new ArrayList<>(matched.cardinality());
+        for (int ordinal = matched.nextSetBit(0); ordinal >= 0; ordinal = matched.nextSetBit(ordinal + 1)) {
+            Doc doc = docs.get(ordinal);
+            if (doc != null) {
+                ids.add(doc.id());
+            }
+        }
+        return ids;
+    }
+
+    // Renumber live documents densely and drop tombstoned postings
+    private void compact() {
+        int[] remap = new int[docs.size()];
+        List<Doc> live = new ArrayList<>(liveDocs);
+        int[] liveLengths = new int[Math.max(1024, liveDocs * 2)];
+        for (int ordinal = 0; ordinal < docs.size(); ordinal++) {
+            Doc doc = docs.get(ordinal);
+            if (doc == null) {
+                remap[ordinal] = -1;
+            } else {
+                remap[ordinal] = live.size();
+                liveLengths[live.size()] = lengths[ordinal];
+                ordinals.put(doc.id(), live.size());
+                live.add(doc);
+            }
+        }
+        docs.clear();
+        docs.addAll(live);
+        lengths = liveLengths;
+
+        postings.values().removeIf(list -> list.remap(remap) == 0);
+    }
+
+    private static final class Postings {
+
+        private int[] docs = new int[4];
+        private int[] freqs = new int[4];
+        private int size;
+
+        void add(int doc, int freq) {
+            if (size == docs.length) {
+                docs = Arrays.copyOf(docs, size * 2);
+                freqs = Arrays.copyOf(freqs, size * 2);
+            }
+            docs[size] = doc;
+            freqs[size] = freq;
+            size++;
+        }
+
+        // Ordinals stay ascending because remap preserves order
+        int remap(int[] remap) {
+            int kept = 0;
+            for (int i = 0; i < size; i++) {
+                int target = remap[docs[i]];
+                if (target >= 0) {
+                    docs[kept] = target;
+                    freqs[kept] = freqs[i];
+                    kept++;
+                }
+            }
+            size = kept;
+            return size;
+        }
+    }
+}
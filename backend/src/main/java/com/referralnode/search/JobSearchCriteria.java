@@ -0,0 +1,59 @@
+package com.referralnode.search;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.StringJoiner;
+
+/**
+ * Filters and optional free-text query for a job listing or search request
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobSearchCriteria {
+    
+    private String query;
+    private String company;
+    private String location;
+    private String title;
+    private List<String> tags;
+    
+    @Builder.Default
+    private TagMode tagMode = TagMode.ANY;
+    
+    public boolean hasQuery() {
+        return query != null && !query.trim().isEmpty();
+    }
+    
+    /**
+     * Which filters are set, e.g. "company+tags" or "none"; never their values, so it is safe as a metric tag
+     */
+    public String shape() {
+        StringJoiner shape = new StringJoiner("+");
+        if (hasQuery()) {
+            shape.add("query");
+        }
+        if (isSet(company)) {
+            shape.add("company");
+        }
+        if (isSet(location)) {
+            shape.add("location");
+        }
+        if (isSet(title)) {
+            shape.add("title");
+        }
+        if (tags != null && !tags.isEmpty()) {
+            shape.add(tagMode == TagMode.ALL ? "all-tags" : "tags");
+        }
+        return shape.length() == 0 ? "none" : shape.toString();
+    }
+    
+    private static boolean isSet(String value) {
+        return value != null && !value.trim().isEmpty();
+    }
+}
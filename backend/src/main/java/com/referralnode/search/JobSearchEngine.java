@@ -0,0 +1,33 @@
+package com.referralnode.search;
+
+import com.referralnode.entity.Job;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+
+/**
+ * Strategy for listing and searching jobs.
+ * <p>
+ * The active implementation is chosen with the {@code search.engine} property:
+ * {@code index} (in-process BM25, default), {@code postgres} (tsvector/trigram)
+ * or {@code specification} (JPA Criteria with LIKE filters).
+ * When the criteria carry a query, results are ordered by relevance and the
+ * pageable's sort is ignored.
+ */
+public interface JobSearchEngine {
+
+    /**
+     * One page plus the exact total
+     */
+    Page<Job> search(JobSearchCriteria criteria, Pageable pageable);
+
+    /**
+     * One page without counting; hasNext comes from fetching a single extra row
+     */
+    Slice<Job> searchSlice(JobSearchCriteria criteria, Pageable pageable);
+
+    /**
+     * Exact number of matching jobs
+     */
+    long count(JobSearchCriteria criteria);
+}
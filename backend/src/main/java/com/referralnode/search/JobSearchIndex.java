@@ -0,0 +1,252 @@
+package com.referralnode.search;
+
+import com.referralnode.datasource.ReadRouting;
+import com.referralnode.entity.Job;
+import com.referralnode.event.JobChangedEvent;
+import com.referralnode.repository.JobRepository;
+import com.referralnode.util.CategoryDictionary;
+import com.referralnode.util.RichTextUtil;
+import com.referralnode.util.TagNormalizer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.*;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Predicate;
+
+/**
+ * In-process full-text index over job title, company, tags and plain-text description.
+ * <p>
+ * Built from the database at startup, kept current from {@link JobChangedEvent}s
+ * and rebuilt on a long fixed delay to repair any drift.
+ */
+@Component
+@ConditionalOnProperty(name = "search.engine", havingValue = "index", matchIfMissing = true)
+@RequiredArgsConstructor
+@Slf4j
+public class JobSearchIndex {
+
+    private final JobRepository jobRepository;
+    private final RichTextUtil richTextUtil;
+
+    @Value("${search.index.batch-size:500}")
+    private int batchSize;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+
+    // Guarded by lock
+    private InvertedIndex index = new InvertedIndex();
+
+    // Events seen while a rebuild is reading the database. Guarded by lock
+    private List<JobChangedEvent> journal;
+
+    /**
+     * Ranked ids for one page of results
+     */
+    public record Result(long totalHits, List<UUID> ids) {
+    }
+
+    // Runs on the task executor, alongside the other startup rebuilds
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        rebuild();
+    }
+
+    @Scheduled(
+            initialDelayString = "${search.index.rebuild-interval-ms:3600000}",
+            fixedDelayString = "${search.index.rebuild-interval-ms:3600000}")
+    public void reconcile() {
+        rebuild();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onJobChanged(JobChangedEvent event) {
+        // Tokenize outside the lock; only the posting list update is exclusive
+        Indexable doc = event.getType() == JobChangedEvent.Type.DELETED ? null : toIndexable(event.getJob());
+
+        lock.writeLock().lock();
+        try {
+            apply(index, event.getJobId(), doc);
+            if (journal != null) {
+                journal.add(event);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Rank jobs against free text, keeping only those matching the optional filters
+     */
+    public Result search(String query, String company, String location, String title,
+                         List<String> tags, TagMode tagMode, int page, int size) {
+        List<String> terms = Tokenizer.tokenize(query);
+        // The controller bounds page and size, so this stays small
+        int topK = (int) Math.min(Integer.MAX_VALUE, (long) (page + 1) * size);
+
+        InvertedIndex.Hits hits;
+        lock.readLock().lock();
+        try {
+            // Doc ids belong to this index's dictionary, which a rebuild replaces
+            Predicate<InvertedIndex.Doc> filter = filterFor(index.dictionary(), company, location, title, tags, tagMode);
+            hits = index.search(terms, filter, topK);
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        int from = Math.min(hits.ids().size(), page * size);
+        return new Result(hits.total(), hits.ids().subList(from, hits.ids().size()));
+    }
+
+    /**
+     * Every job matching the free text, in no particular order; the full result set behind search()
+     */
+    public List<UUID> matchingIds(String query) {
+        List<String> terms = Tokenizer.tokenize(query);
+        lock.readLock().lock();
+        try {
+            return index.matching(terms);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Rebuild the index from the database in id-ordered batches and swap it in
+     */
+    public void rebuild() {
+        if (!rebuildLock.tryLock()) {
+            log.debug("Search index rebuild already in progress, skipping");
+            return;
+        }
+        // Journaling starts now, so the snapshot must be at least this new; a replica may lag behind
+        try (ReadRouting.Scope primary = ReadRouting.primary()) {
+            setJournal(new ArrayList<>());
+
+            InvertedIndex fresh = new InvertedIndex();
+            try {
+                IdBatches.forEach(batchSize, jobRepository::findSlice, Job::getId,
+                        job -> apply(fresh, job.getId(), toIndexable(job)));
+            } catch (RuntimeException ex) {
+                setJournal(null);
+                log.warn("Failed to rebuild search index, keeping previous index", ex);
+                return;
+            }
+
+            lock.writeLock().lock();
+            try {
+                for (JobChangedEvent event : journal) {
+                    apply(fresh, event.getJobId(),
+                            event.getType() == JobChangedEvent.Type.DELETED ? null : toIndexable(event.getJob()));
+                }
+                journal = null;
+                index = fresh;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            log.info("Rebuilt search index with {} jobs", fresh.size());
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    private void setJournal(List<JobChangedEvent> value) {
+        lock.writeLock().lock();
+        try {
+            journal = value;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private static void apply(InvertedIndex target, UUID id, Indexable doc) {
+        if (doc == null) {
+            target.remove(id);
+        } else {
+            target.upsert(doc.toDoc(target.dictionary()), doc.title(), doc.company(), doc.tags(), doc.plainText());
+        }
+    }
+
+    private Indexable toIndexable(Job job) {
+        return new Indexable(job.getId(), job.getTitle(), job.getCompany(), job.getLocation(), job.getTags(),
+                richTextUtil.htmlToPlainText(job.getDescription()));
+    }
+
+    // Same semantics as JobSpecification: substring match on text fields, any-of or all-of on tags
+    private static Predicate<InvertedIndex.Doc> filterFor(CategoryDictionary dictionary,
+                                                          String company, String location, String title,
+                                                          List<String> tags, TagMode tagMode) {
+        Predicate<InvertedIndex.Doc> filter = doc -> true;
+        if (company != null && !company.trim().isEmpty()) {
+            String needle = lower(company);
+            filter = filter.and(doc -> contains(dictionary.decode(doc.company()), needle));
+        }
+        if (location != null && !location.trim().isEmpty()) {
+            String needle = lower(location);
+            filter = filter.and(doc -> contains(dictionary.decode(doc.location()), needle));
+        }
+        if (title != null && !title.trim().isEmpty()) {
+            String needle = lower(title);
+            filter = filter.and(doc -> contains(doc.title(), needle));
+        }
+        List<String> normalized = TagNormalizer.normalize(tags);
+        if (normalized != null && !normalized.isEmpty()) {
+            // find() rather than encode(): request input must not grow the dictionary
+            int[] wanted = normalized.stream().mapToInt(dictionary::find).toArray();
+            filter = filter.and(tagMode == TagMode.ALL
+                    ? doc -> hasAllTags(doc, wanted)
+                    : doc -> hasAnyTag(doc, wanted));
+        }
+        return filter;
+    }
+
+    private static boolean contains(String value, String needle) {
+        return value != null && value.contains(needle);
+    }
+
+    private static boolean hasAllTags(InvertedIndex.Doc doc, int[] wanted) {
+        for (int tag : wanted) {
+            if (tag == CategoryDictionary.NONE || Arrays.binarySearch(doc.tags(), tag) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean hasAnyTag(InvertedIndex.Doc doc, int[] wanted) {
+        for (int tag : wanted) {
+            if (tag != CategoryDictionary.NONE && Arrays.binarySearch(doc.tags(), tag) >= 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String lower(String value) {
+        return value == null ? null : value.toLowerCase(Locale.ROOT);
+    }
+
+    private record Indexable(UUID id, String title, String company, String location, List<String> tags,
+                             String plainText) {
+
+        InvertedIndex.Doc toDoc(CategoryDictionary dictionary) {
+            List<String> lowerTags = new ArrayList<>();
+            if (tags != null) {
+                tags.forEach(tag -> lowerTags.add(lower(tag.trim())));
+            }
+            return new InvertedIndex.Doc(id, lower(title), dictionary.encode(lower(company)),
+                    dictionary.encode(lower(location)), dictionary.encodeAll(lowerTags));
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.referralnode.search;
+
+import com.referralnode.entity.Job;
+import com.referralnode.repository.JobRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Component;
+
+/**
+ * Database-native search for deployments that cannot hold an index in heap.
+ * Requires the tsvector column and pg_trgm indexes from schema.sql.
+ */
+@Component
+@Primary
+@ConditionalOnProperty(name = "search.engine", havingValue = "postgres")
+@RequiredArgsConstructor
+public class PostgresSearchEngine implements JobSearchEngine {
+
+    private final JobRepository jobRepository;
+
+    @Override
+    public Page<Job> search(JobSearchCriteria criteria, Pageable pageable) {
+        return jobRepository.fullTextSearch(criteria, pageable);
+    }
+
+    @Override
+    public Slice<Job> searchSlice(JobSearchCriteria criteria, Pageable pageable) {
+        return jobRepository.fullTextSlice(criteria, pageable);
+    }
+
+    @Override
+    public long count(JobSearchCriteria criteria) {
+        return jobRepository.fullTextCount(criteria);
+    }
+}
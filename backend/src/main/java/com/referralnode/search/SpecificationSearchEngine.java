@@ -0,0 +1,57 @@
+package com.referralnode.search;
+
+import com.referralnode.entity.Job;
+import com.referralnode.repository.JobRepository;
+import com.referralnode.specification.JobSpecification;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Component;
+
+/**
+ * Portable search through JPA Criteria; works on any database but every text
+ * filter is a {@code LIKE '%term%'} scan.
+ */
+@Component
+@RequiredArgsConstructor
+public class SpecificationSearchEngine implements JobSearchEngine {
+
+    private final JobRepository jobRepository;
+
+    @Override
+    public Page<Job> search(JobSearchCriteria criteria, Pageable pageable) {
+        return jobRepository.findAll(toSpecification(criteria), effectivePageable(criteria, pageable));
+    }
+
+    @Override
+    public Slice<Job> searchSlice(JobSearchCriteria criteria, Pageable pageable) {
+        return jobRepository.findSlice(toSpecification(criteria), effectivePageable(criteria, pageable));
+    }
+
+    @Override
+    public long count(JobSearchCriteria criteria) {
+        return jobRepository.count(toSpecification(criteria));
+    }
+
+    private Specification<Job> toSpecification(JobSearchCriteria criteria) {
+        Specification<Job> spec = JobSpecification.filterJobs(
+                criteria.getCompany(), criteria.getLocation(), criteria.getTitle(), criteria.getTags(),
+                criteria.getTagMode());
+        if (criteria.hasQuery()) {
+            spec = spec.and(JobSpecification.matchesText(criteria.getQuery()));
+        }
+        return spec;
+    }
+
+    // LIKE matching has no relevance score, so text queries list newest first
+    private Pageable effectivePageable(JobSearchCriteria criteria, Pageable pageable) {
+        if (!criteria.hasQuery()) {
+            return pageable;
+        }
+        return PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), Sort.by("postedAt").descending());
+    }
+}
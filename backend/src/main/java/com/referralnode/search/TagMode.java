@@ -0,0 +1,23 @@
+package com.referralnode.search;
+
+import java.util.Locale;
+
+/**
+ * How a multi-tag filter matches a job's tags
+ */
+public enum TagMode {
+    
+    // At least one of the tags (PostgreSQL &&)
+    ANY,
+    
+    // Every one of the tags (PostgreSQL @>)
+    ALL;
+    
+    public static TagMode parse(String value) {
+        try {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException ex) {
+            throw new IllegalArgumentException("Unsupported tag mode: " + value + " (use any or all)");
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.referralnode.search;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Splits free text into lowercase search terms.
+ * <p>
+ * Letters and digits form terms; '+' and '#' are kept so that "C++" and
+ * "C#" stay searchable. Very common English words are dropped.
+ */
+public final class Tokenizer {
+
+    private static final int MAX_TERM_LENGTH = 40;
+
+    private static final Set<String> STOP_WORDS = Set.of(
+            "a", "an", "and", "are", "as", "at", "be", "by", "for", "from", "in", "is",
+            "it", "of", "on", "or", "our", "that", "the", "to", "we", "with", "you", "your");
+
+    private Tokenizer() {
+    }
+
+    public static List<String> tokenize(String text) {
+        List<String> terms = new ArrayList<>();
+        if (text == null || text.isEmpty()) {
+            return terms;
+        }
+
+        StringBuilder current = new StringBuilder();
+        for (int i = 0, n = text.length(); i < n; i++) {
+            char c = text.charAt(i);
+            if (Character.isLetterOrDigit(c) || c == '+' || c == '#') {
+                if (current.length() < MAX_TERM_LENGTH) {
+                    current.append(Character.toLowerCase(c));
+                }
+            } else if (!current.isEmpty()) {
+                emit(current, terms);
+            }
+        }
+        emit(current, terms);
+        return terms;
+    }
+
+    private static void emit(StringBuilder current, List<String> terms) {
+        if (!current.isEmpty()) {
+            String term = current.toString();
+            if (!STOP_WORDS.contains(term)) {
+                terms.add(term);
+            }
+            current.setLength(0);
+        }
+    }
+}
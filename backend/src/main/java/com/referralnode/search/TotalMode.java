@@ -0,0 +1,26 @@
+package com.referralnode.search;
+
+import java.util.Locale;
+
+/**
+ * How a listing response computes totalElements/totalPages
+ */
+public enum TotalMode {
+    
+    // Run a count query with the same filters
+    EXACT,
+    
+    // Per-filter cached count or planner estimate; exact on the last page
+    APPROX,
+    
+    // No count at all; totals are reported as -1
+    NONE;
+    
+    public static TotalMode parse(String value) {
+        try {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException ex) {
+            throw new IllegalArgumentException("Unsupported total mode: " + value + " (use exact, approx or none)");
+        }
+    }
+}
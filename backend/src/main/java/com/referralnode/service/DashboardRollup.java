@@ -0,0 +1,342 @@
+package com.referralnode.service;
+
+import com.referralnode.datasource.ReadRouting;
+import com.referralnode.entity.Job;
+import com.referralnode.event.JobChangedEvent;
+import com.referralnode.repository.JobRepository;
+import com.referralnode.repository.projection.JobStatsView;
+import com.referralnode.util.CategoryDictionary;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory rollup of the counters shown on the admin dashboard.
+ * <p>
+ * Kept up to date from {@link JobChangedEvent}s, rebuilt from the database on
+ * startup and reconciled periodically, so reading the dashboard never touches
+ * the jobs table.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class DashboardRollup {
+
+    private static final Comparator<Entry> NEWEST_FIRST = Comparator
+            .comparing(Entry::createdAt, Comparator.reverseOrder())
+            .thenComparing(Entry::id);
+
+    private final JobRepository jobRepository;
+
+    @Value("${dashboard.rollup.recent-capacity:20}")
+    private int recentCapacity;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+
+    // Guarded by lock
+    private State state = new State(20);
+
+    // Events seen while a rebuild is reading the database; replayed onto the fresh state. Guarded by lock
+    private List<JobChangedEvent> journal;
+
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        rebuild();
+    }
+
+    @Scheduled(
+            initialDelayString = "${dashboard.rollup.reconcile-interval-ms:600000}",
+            fixedDelayString = "${dashboard.rollup.reconcile-interval-ms:600000}")
+    public void reconcile() {
+        rebuild();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onJobChanged(JobChangedEvent event) {
+        lock.writeLock().lock();
+        try {
+            state.apply(event);
+            if (journal != null) {
+                journal.add(event);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Recompute the rollup from the database and swap it in
+     */
+    public void rebuild() {
+        if (!rebuildLock.tryLock()) {
+            log.debug("Dashboard rollup rebuild already in progress, skipping");
+            return;
+        }
+        // From the primary: replica lag would drop writes that committed before the journal started
+        try (ReadRouting.Scope primary = ReadRouting.primary()) {
+            setJournal(new ArrayList<>());
+
+            State fresh = new State(recentCapacity);
+            try {
+                // Entries live until the next rebuild, so keep one shared copy of each company and location
+                for (JobStatsView view : jobRepository.findAllStatsViews()) {
+                    fresh.upsert(new Entry(view.getId(), view.getTitle(),
+                            CategoryDictionary.canonical(view.getCompany()),
+                            CategoryDictionary.canonical(view.getLocation()), view.getCreatedAt()));
+                }
+            } catch (RuntimeException ex) {
+                setJournal(null);
+                log.warn("Failed to rebuild dashboard rollup, keeping previous state", ex);
+                return;
+            }
+
+            lock.writeLock().lock();
+            try {
+                journal.forEach(fresh::apply);
+                journal = null;
+                state = fresh;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            log.info("Rebuilt dashboard rollup from {} jobs", fresh.entries.size());
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    /**
+     * Take a consistent snapshot of the rollup relative to the given instant
+     */
+    public Snapshot snapshot(LocalDateTime now, int topN) {
+        LocalDate today = now.toLocalDate();
+        LocalDate startOfMonth = today.withDayOfMonth(1);
+        LocalDate startOfLastMonth = startOfMonth.minusMonths(1);
+
+        lock.readLock().lock();
+        try {
+            return new Snapshot(
+                    state.entries.size(),
+                    sum(state.perDay.tailMap(today, true)),
+                    sum(state.perDay.tailMap(startOfMonth, true)),
+                    sum(state.perDay.subMap(startOfLastMonth, true, startOfMonth, false)),
+                    top(state.byLocation, topN),
+                    top(state.byCompany, topN),
+                    state.recent.stream().limit(topN).toList());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Posting counts per bucket, optionally broken down by company or location.
+     * Series are ranked by their total over the range and cut to {@code limit}.
+     */
+    public TimeSeries timeSeries(PostingHistogram.Granularity granularity, LocalDateTime alignedFrom,
+                                 int buckets, Breakdown breakdown, int limit) {
+        LocalDateTime end = alignedFrom.plus(buckets, granularity.getUnit());
+
+        lock.readLock().lock();
+        try {
+            long[] totals = state.postings.counts(granularity, alignedFrom, buckets);
+            Map<String, PostingHistogram> source = switch (breakdown) {
+                case COMPANY -> state.postingsByCompany;
+                case LOCATION -> state.postingsByLocation;
+                case NONE -> Map.of();
+            };
+
+            Map<String, long[]> series = new LinkedHashMap<>();
+            source.entrySet().stream()
+                    .map(e -> Map.entry(e.getKey(), e.getValue().sum(alignedFrom, end)))
+                    .filter(e -> e.getValue() > 0)
+                    .sorted(Map.Entry.<String, Long>comparingByValue().reversed())
+                    .limit(limit)
+                    .forEach(e -> series.put(e.getKey(),
+                            source.get(e.getKey()).counts(granularity, alignedFrom, buckets)));
+            return new TimeSeries(totals, series);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void setJournal(List<JobChangedEvent> value) {
+        lock.writeLock().lock();
+        try {
+            journal = value;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private static long sum(Map<LocalDate, Long> counts) {
+        long total = 0;
+        for (long count : counts.values()) {
+            total += count;
+        }
+        return total;
+    }
+
+    private static List<Map.Entry<String, Long>> top(Map<String, Long> counts, int limit) {
+        return counts.entrySet().stream()
+                .sorted(Map.Entry.<String, Long>comparingByValue().reversed())
+                .limit(limit)
+                .map(e -> Map.entry(e.getKey(), e.getValue()))
+                .toList();
+    }
+
+    private static void addPosting(Map<String, PostingHistogram> histograms, String key,
+                                   LocalDateTime createdAt, int delta) {
+        if (key == null) {
+            return;
+        }
+        PostingHistogram histogram = histograms.computeIfAbsent(key, k -> new PostingHistogram());
+        histogram.add(createdAt, delta);
+        if (histogram.isEmpty()) {
+            histograms.remove(key);
+        }
+    }
+
+    private static void increment(Map<String, Long> counts, String key) {
+        if (key != null) {
+            counts.merge(key, 1L, Long::sum);
+        }
+    }
+
+    private static void decrement(Map<String, Long> counts, String key) {
+        if (key != null) {
+            counts.computeIfPresent(key, (k, v) -> v > 1 ? v - 1 : null);
+        }
+    }
+
+    /**
+     * Fields of a job the dashboard needs
+     */
+    public record Entry(UUID id, String title, String company, String location, LocalDateTime createdAt) {
+
+        static Entry of(Job job) {
+            return new Entry(job.getId(), job.getTitle(), job.getCompany(), job.getLocation(), job.getCreatedAt());
+        }
+    }
+
+    public enum Breakdown {
+        NONE,
+        COMPANY,
+        LOCATION
+    }
+
+    /**
+     * Bucketed posting counts; {@code series} is ordered by descending total
+     */
+    public record TimeSeries(long[] totals, Map<String, long[]> series) {
+    }
+
+    /**
+     * Immutable view of the rollup at a point in time
+     */
+    @Getter
+    @RequiredArgsConstructor
+    public static class Snapshot {
+        private final long totalJobs;
+        private final long jobsToday;
+        private final long jobsThisMonth;
+        private final long jobsLastMonth;
+        private final List<Map.Entry<String, Long>> topLocations;
+        private final List<Map.Entry<String, Long>> topCompanies;
+        private final List<Entry> recentJobs;
+    }
+
+    private static final class State {
+
+        private final int recentCapacity;
+        private final Map<UUID, Entry> entries = new HashMap<>();
+        private final NavigableMap<LocalDate, Long> perDay = new TreeMap<>();
+        private final Map<String, Long> byLocation = new HashMap<>();
+        private final Map<String, Long> byCompany = new HashMap<>();
+
+        // Bounded, newest-first set of the most recently created jobs
+        private final TreeSet<Entry> recent = new TreeSet<>(NEWEST_FIRST);
+
+        // Hourly posting histograms, overall and per company/location
+        private final PostingHistogram postings = new PostingHistogram();
+        private final Map<String, PostingHistogram> postingsByCompany = new HashMap<>();
+        private final Map<String, PostingHistogram> postingsByLocation = new HashMap<>();
+
+        State(int recentCapacity) {
+            this.recentCapacity = Math.max(1, recentCapacity);
+        }
+
+        void apply(JobChangedEvent event) {
+            if (event.getType() == JobChangedEvent.Type.DELETED) {
+                remove(event.getJobId());
+            } else {
+                upsert(Entry.of(event.getJob()));
+            }
+        }
+
+        void upsert(Entry entry) {
+            remove(entry.id());
+            entries.put(entry.id(), entry);
+            increment(byLocation, entry.location());
+            increment(byCompany, entry.company());
+            if (entry.createdAt() != null) {
+                perDay.merge(entry.createdAt().toLocalDate(), 1L, Long::sum);
+                recordPosting(entry, 1);
+                offerRecent(entry);
+            }
+        }
+
+        void remove(UUID id) {
+            Entry old = entries.remove(id);
+            if (old == null) {
+                return;
+            }
+            decrement(byLocation, old.location());
+            decrement(byCompany, old.company());
+            if (old.createdAt() != null) {
+                perDay.computeIfPresent(old.createdAt().toLocalDate(), (k, v) -> v > 1 ? v - 1 : null);
+                recordPosting(old, -1);
+                if (recent.remove(old)) {
+                    refillRecent();
+                }
+            }
+        }
+
+        private void recordPosting(Entry entry, int delta) {
+            postings.add(entry.createdAt(), delta);
+            addPosting(postingsByCompany, entry.company(), entry.createdAt(), delta);
+            addPosting(postingsByLocation, entry.location(), entry.createdAt(), delta);
+        }
+
+        private void offerRecent(Entry entry) {
+            recent.add(entry);
+            if (recent.size() > recentCapacity) {
+                recent.pollLast();
+            }
+        }
+
+        // Only runs when a job inside the recent window is deleted
+        private void refillRecent() {
+            Entry oldestKept = recent.isEmpty() ? null : recent.last();
+            for (Entry candidate : entries.values()) {
+                if (candidate.createdAt() != null
+                        && (oldestKept == null || NEWEST_FIRST.compare(candidate, oldestKept) > 0)) {
+                    offerRecent(candidate);
+                }
+            }
+        }
+    }
+}
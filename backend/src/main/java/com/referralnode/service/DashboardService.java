@@ -1,55 +1,40 @@
 package com.referralnode.service;
 
 import com.referralnode.dto.DashboardStatsResponse;
-import com.referralnode.model.Job;
-import com.referralnode.repository.JobRepository;
+import com.referralnode.dto.TimeSeriesResponse;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
-import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
 import java.time.temporal.ChronoUnit;
-import java.util.*;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
 import java.util.stream.Collectors;
 
 @Service
+@Timed(value = "referralnode.service", histogram = true)
 @RequiredArgsConstructor
 public class DashboardService {
 
-    private final JobRepository jobRepository;
+    private static final int TOP_N = 5;
+    private static final int MAX_BUCKETS = 10_000;
+    private static final int MAX_SERIES = 50;
+
+    private final DashboardRollup dashboardRollup;
 
     public DashboardStatsResponse getDashboardStats() {
-        // Get all jobs
-        List<Job> allJobs = jobRepository.findAll();
-        
-        // Calculate date ranges
+        // Read precomputed counters instead of scanning the jobs table
         LocalDateTime now = LocalDateTime.now();
-        LocalDateTime startOfToday = now.toLocalDate().atStartOfDay();
-        LocalDateTime startOfMonth = now.withDayOfMonth(1).toLocalDate().atStartOfDay();
-        LocalDateTime startOfLastMonth = startOfMonth.minusMonths(1);
-        
-        // Total jobs
-        long totalJobs = allJobs.size();
-        
-        // Jobs posted today
-        long jobsPostedToday = allJobs.stream()
-                .filter(job -> job.getCreatedAt().isAfter(startOfToday))
-                .count();
+        DashboardRollup.Snapshot snapshot = dashboardRollup.snapshot(now, TOP_N);
         
-        // Jobs posted this month
-        long jobsPostedThisMonth = allJobs.stream()
-                .filter(job -> job.getCreatedAt().isAfter(startOfMonth))
-                .count();
-        
-        // Jobs posted last month (for growth calculation)
-        long jobsPostedLastMonth = allJobs.stream()
-                .filter(job -> job.getCreatedAt().isAfter(startOfLastMonth) 
-                        && job.getCreatedAt().isBefore(startOfMonth))
-                .count();
+        long totalJobs = snapshot.getTotalJobs();
         
         // Calculate growth percentage
-        double jobsGrowthPercentage = calculateGrowthPercentage(jobsPostedThisMonth, jobsPostedLastMonth);
+        double jobsGrowthPercentage = calculateGrowthPercentage(
+                snapshot.getJobsThisMonth(), snapshot.getJobsLastMonth());
         
         // Mock data for visitors and applications (can be replaced with real data later)
         long totalVisitors = 12345L;
@@ -58,18 +43,30 @@ public class DashboardService {
         double applicationsGrowthPercentage = 23.0;
         
         // Get top locations
-        List<DashboardStatsResponse.LocationStats> topLocations = getTopLocations(allJobs);
+        List<DashboardStatsResponse.LocationStats> topLocations = snapshot.getTopLocations().stream()
+                .map(entry -> DashboardStatsResponse.LocationStats.builder()
+                        .location(entry.getKey())
+                        .count(entry.getValue())
+                        .percentage(percentage(entry.getValue(), totalJobs))
+                        .build())
+                .collect(Collectors.toList());
         
         // Get top companies
-        List<DashboardStatsResponse.CompanyStats> topCompanies = getTopCompanies(allJobs);
+        List<DashboardStatsResponse.CompanyStats> topCompanies = snapshot.getTopCompanies().stream()
+                .map(entry -> DashboardStatsResponse.CompanyStats.builder()
+                        .company(entry.getKey())
+                        .count(entry.getValue())
+                        .percentage(percentage(entry.getValue(), totalJobs))
+                        .build())
+                .collect(Collectors.toList());
         
         // Get recent activities
-        List<DashboardStatsResponse.RecentActivity> recentActivities = getRecentActivities(allJobs);
+        List<DashboardStatsResponse.RecentActivity> recentActivities = getRecentActivities(snapshot.getRecentJobs());
         
         return DashboardStatsResponse.builder()
                 .totalJobs(totalJobs)
-                .jobsPostedToday(jobsPostedToday)
-                .jobsPostedThisMonth(jobsPostedThisMonth)
+                .jobsPostedToday(snapshot.getJobsToday())
+                .jobsPostedThisMonth(snapshot.getJobsThisMonth())
                 .totalVisitors(totalVisitors)
                 .activeApplications(activeApplications)
                 .jobsGrowthPercentage(jobsGrowthPercentage)
@@ -81,59 +78,87 @@ public class DashboardService {
                 .build();
     }
     
-    private double calculateGrowthPercentage(long current, long previous) {
-        if (previous == 0) {
-            return current > 0 ? 100.0 : 0.0;
+    /**
+     * Bucketed posting counts over [from, to), optionally broken down by company or location
+     */
+    public TimeSeriesResponse getTimeSeries(
+            String granularity,
+            LocalDateTime from,
+            LocalDateTime to,
+            String breakdown,
+            int limit) {
+        
+        PostingHistogram.Granularity unit = parseEnum(PostingHistogram.Granularity.class, granularity, "granularity");
+        DashboardRollup.Breakdown split = parseEnum(DashboardRollup.Breakdown.class, breakdown, "breakdown");
+        
+        LocalDateTime end = to != null ? to : LocalDateTime.now();
+        LocalDateTime start = from != null ? from : end.minusDays(30);
+        if (!start.isBefore(end)) {
+            throw new IllegalArgumentException("'from' must be before 'to'");
+        }
+        if (limit < 1 || limit > MAX_SERIES) {
+            throw new IllegalArgumentException("limit must be between 1 and " + MAX_SERIES);
         }
-        return ((double) (current - previous) / previous) * 100.0;
-    }
-    
-    private List<DashboardStatsResponse.LocationStats> getTopLocations(List<Job> jobs) {
-        Map<String, Long> locationCounts = jobs.stream()
-                .collect(Collectors.groupingBy(Job::getLocation, Collectors.counting()));
         
-        long total = jobs.size();
+        LocalDateTime alignedFrom = unit.align(start);
+        long bucketCount = unit.bucketCount(alignedFrom, end);
+        if (bucketCount > MAX_BUCKETS) {
+            throw new IllegalArgumentException(
+                    "Range spans " + bucketCount + " buckets; at most " + MAX_BUCKETS + " are allowed");
+        }
+        int buckets = (int) bucketCount;
         
-        return locationCounts.entrySet().stream()
-                .sorted(Map.Entry.<String, Long>comparingByValue().reversed())
-                .limit(5)
-                .map(entry -> DashboardStatsResponse.LocationStats.builder()
-                        .location(entry.getKey())
-                        .count(entry.getValue())
-                        .percentage(total > 0 ? (entry.getValue() * 100.0 / total) : 0.0)
-                        .build())
-                .collect(Collectors.toList());
-    }
-    
-    private List<DashboardStatsResponse.CompanyStats> getTopCompanies(List<Job> jobs) {
-        Map<String, Long> companyCounts = jobs.stream()
-                .collect(Collectors.groupingBy(Job::getCompany, Collectors.counting()));
+        DashboardRollup.TimeSeries result = dashboardRollup.timeSeries(unit, alignedFrom, buckets, split, limit);
         
-        long total = jobs.size();
+        List<LocalDateTime> bucketStarts = new ArrayList<>(buckets);
+        for (int i = 0; i < buckets; i++) {
+            bucketStarts.add(alignedFrom.plus(i, unit.getUnit()));
+        }
         
-        return companyCounts.entrySet().stream()
-                .sorted(Map.Entry.<String, Long>comparingByValue().reversed())
-                .limit(5)
-                .map(entry -> DashboardStatsResponse.CompanyStats.builder()
-                        .company(entry.getKey())
-                        .count(entry.getValue())
-                        .percentage(total > 0 ? (entry.getValue() * 100.0 / total) : 0.0)
+        List<TimeSeriesResponse.Series> series = result.series().entrySet().stream()
+                .map(entry -> TimeSeriesResponse.Series.builder()
+                        .key(entry.getKey())
+                        .total(Arrays.stream(entry.getValue()).sum())
+                        .counts(entry.getValue())
                         .build())
                 .collect(Collectors.toList());
+        
+        return TimeSeriesResponse.builder()
+                .granularity(unit.name())
+                .breakdown(split.name())
+                .from(alignedFrom)
+                .to(end)
+                .buckets(bucketStarts)
+                .totals(result.totals())
+                .series(series)
+                .build();
     }
     
-    private List<DashboardStatsResponse.RecentActivity> getRecentActivities(List<Job> jobs) {
+    private <E extends Enum<E>> E parseEnum(Class<E> type, String value, String name) {
+        try {
+            return Enum.valueOf(type, value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException ex) {
+            throw new IllegalArgumentException("Unsupported " + name + ": " + value);
+        }
+    }
+    
+    private double calculateGrowthPercentage(long current, long previous) {
+        if (previous == 0) {
+            return current > 0 ? 100.0 : 0.0;
+        }
+        return ((double) (current - previous) / previous) * 100.0;
+    }
+    
+    private double percentage(long count, long total) {
+        return total > 0 ? (count * 100.0 / total) : 0.0;
+    }
+    
+    private List<DashboardStatsResponse.RecentActivity> getRecentActivities(List<DashboardRollup.Entry> recentJobs) {
         List<DashboardStatsResponse.RecentActivity> activities = new ArrayList<>();
         
-        // Get the 5 most recent jobs
-        List<Job> recentJobs = jobs.stream()
-                .sorted(Comparator.comparing(Job::getCreatedAt).reversed())
-                .limit(5)
-                .collect(Collectors.toList());
-        
-        for (Job job : recentJobs) {
-            String timeAgo = getTimeAgo(job.getCreatedAt());
-            String message = String.format("New job posted: %s at %s", job.getTitle(), job.getCompany());
+        for (DashboardRollup.Entry job : recentJobs) {
+            String timeAgo = getTimeAgo(job.createdAt());
+            String message = String.format("New job posted: %s at %s", job.title(), job.company());
             
             activities.add(DashboardStatsResponse.RecentActivity.builder()
                     .message(message)
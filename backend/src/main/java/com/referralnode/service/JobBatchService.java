@@ -0,0 +1,231 @@
+package com.referralnode.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.referralnode.dedupe.JobDeduplicator;
+import com.referralnode.dto.BatchIngestResponse;
+import com.referralnode.dto.BatchIngestResponse.ItemResult;
+import com.referralnode.dto.BatchIngestResponse.Status;
+import com.referralnode.dto.JobRequest;
+import com.referralnode.entity.Job;
+import com.referralnode.event.JobChangedEvent;
+import com.referralnode.mapper.JobMapper;
+import com.referralnode.repository.JobRepository;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.*;
+import java.util.stream.IntStream;
+
+/**
+ * Bulk job ingestion from a JSON array or NDJSON stream.
+ * <p>
+ * Items are read incrementally and processed in chunks: each chunk is validated and
+ * sanitized in parallel, classified by {@link JobDeduplicator}, then written with JDBC
+ * batches in its own transaction. New jobs are inserted, jobs whose source URL exists
+ * with different content are updated in place, and repeats are reported as duplicates.
+ * Ids are assigned before the insert (client-supplied or random), so no per-row
+ * round trip is needed to learn them.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class JobBatchService {
+
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final JobMapper jobMapper;
+    private final JobRepository jobRepository;
+    private final JobDeduplicator jobDeduplicator;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${ingest.batch.chunk-size:1000}")
+    private int chunkSize;
+
+    @Value("${ingest.batch.max-items:100000}")
+    private int maxItems;
+
+    /**
+     * Ingest every job in the body and report the outcome of each item in input order
+     */
+    public BatchIngestResponse ingest(InputStream body) throws IOException {
+        List<ItemResult> results = new ArrayList<>();
+        Set<UUID> seenIds = new HashSet<>();
+        List<JobRequest> chunk = new ArrayList<>(chunkSize);
+        String error = null;
+        int received = 0;
+
+        // readValues unwraps a top-level array and also reads whitespace-separated values (NDJSON)
+        try (MappingIterator<JobRequest> items = objectMapper.readerFor(JobRequest.class).readValues(body)) {
+            while (true) {
+                JobRequest request;
+                try {
+                    if (!items.hasNextValue()) {
+                        break;
+                    }
+                    request = items.nextValue();
+                } catch (JsonProcessingException ex) {
+                    // The parser cannot resynchronize, so everything after this point is unread
+                    error = "Malformed item at index " + received + ": " + ex.getOriginalMessage();
+                    break;
+                }
+                if (received == maxItems) {
+                    error = "Batch exceeds the limit of " + maxItems + " items; remaining items were not read";
+                    break;
+                }
+
+                chunk.add(request);
+                received++;
+                if (chunk.size() == chunkSize) {
+                    processChunk(chunk, received - chunk.size(), seenIds, results);
+                    chunk.clear();
+                }
+            }
+        }
+        processChunk(chunk, received - chunk.size(), seenIds, results);
+
+        Map<Status, Integer> totals = new EnumMap<>(Status.class);
+        results.forEach(result -> totals.merge(result.getStatus(), 1, Integer::sum));
+        log.info("Batch ingestion: {} received, {}", received, totals);
+
+        return BatchIngestResponse.builder()
+                .received(received)
+                .created(totals.getOrDefault(Status.CREATED, 0))
+                .updated(totals.getOrDefault(Status.UPDATED, 0))
+                .duplicates(totals.getOrDefault(Status.DUPLICATE, 0))
+                .invalid(totals.getOrDefault(Status.INVALID, 0))
+                .failed(totals.getOrDefault(Status.FAILED, 0))
+                .complete(error == null)
+                .error(error)
+                .items(results)
+                .build();
+    }
+
+    private void processChunk(List<JobRequest> chunk, int offset, Set<UUID> seenIds, List<ItemResult> results) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+
+        // Validation and sanitization are CPU-bound and independent per item; toList keeps input order
+        List<Prepared> prepared = IntStream.range(0, chunk.size())
+                .parallel()
+                .mapToObj(i -> prepare(offset + i, chunk.get(i)))
+                .toList();
+
+        List<Prepared> candidates = new ArrayList<>();
+        for (Prepared item : prepared) {
+            if (item.job() != null && !seenIds.add(item.job().getId())) {
+                reject(item, "Duplicate id within batch");
+            } else if (item.job() != null) {
+                candidates.add(item);
+            }
+        }
+
+        List<Job> inserts = new ArrayList<>();
+        List<Job> updates = new ArrayList<>();
+        try {
+            List<JobDeduplicator.Match> matches = jobDeduplicator.classify(
+                    candidates.stream().map(Prepared::job).toList());
+            Set<UUID> takenIds = jobRepository.findExistingIds(IntStream.range(0, candidates.size())
+                    .filter(i -> matches.get(i).outcome() == JobDeduplicator.Outcome.NEW)
+                    .mapToObj(i -> candidates.get(i).job().getId())
+                    .toList());
+
+            for (int i = 0; i < candidates.size(); i++) {
+                Prepared item = candidates.get(i);
+                JobDeduplicator.Match match = matches.get(i);
+                switch (match.outcome()) {
+                    case NEW -> {
+                        if (takenIds.contains(item.job().getId())) {
+                            reject(item, "Job already exists");
+                        } else {
+                            item.result().setStatus(Status.CREATED);
+                            inserts.add(item.job());
+                        }
+                    }
+                    case CHANGED -> {
+                        // Same source URL with new content: overwrite the stored job in place
+                        item.job().setId(match.existing().id());
+                        item.job().setCreatedAt(match.existing().createdAt());
+                        item.result().setId(match.existing().id());
+                        item.result().setStatus(Status.UPDATED);
+                        updates.add(item.job());
+                    }
+                    case UNCHANGED -> {
+                        item.result().setId(match.existing().id());
+                        reject(item, "Unchanged");
+                    }
+                    case DUPLICATE -> reject(item, match.existing() == null
+                            ? "Repeated within batch"
+                            : "Same content as job " + match.existing().id());
+                }
+            }
+
+            // Another writer may have taken the id or source URL since classify; those rows were skipped
+            Set<UUID> inserted = jobRepository.writeAll(inserts, updates);
+            inserts.removeIf(job -> !inserted.contains(job.getId()));
+            candidates.stream()
+                    .filter(item -> item.result().getStatus() == Status.CREATED
+                            && !inserted.contains(item.job().getId()))
+                    .forEach(item -> reject(item, "Already exists"));
+        } catch (DataAccessException ex) {
+            log.warn("Failed to write batch chunk starting at index {}", offset, ex);
+            inserts.clear();
+            updates.clear();
+            candidates.stream()
+                    .filter(item -> item.result().getStatus() == null
+                            || item.result().getStatus() == Status.CREATED
+                            || item.result().getStatus() == Status.UPDATED)
+                    .forEach(item -> {
+                        item.result().setStatus(Status.FAILED);
+                        item.result().setErrors(List.of(ex.getMostSpecificCause().getMessage()));
+                    });
+        }
+
+        prepared.forEach(item -> results.add(item.result()));
+        inserts.forEach(job -> eventPublisher.publishEvent(JobChangedEvent.created(job)));
+        updates.forEach(job -> eventPublisher.publishEvent(JobChangedEvent.updated(job)));
+    }
+
+    private static void reject(Prepared item, String reason) {
+        item.result().setStatus(Status.DUPLICATE);
+        item.result().setErrors(List.of(reason));
+    }
+
+    private Prepared prepare(int index, JobRequest request) {
+        ItemResult result = ItemResult.builder().index(index).build();
+        if (request == null) {
+            result.setStatus(Status.INVALID);
+            result.setErrors(List.of("Item is null"));
+            return new Prepared(result, null);
+        }
+
+        Set<ConstraintViolation<JobRequest>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            result.setId(request.getId());
+            result.setStatus(Status.INVALID);
+            result.setErrors(violations.stream()
+                    .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                    .sorted()
+                    .toList());
+            return new Prepared(result, null);
+        }
+
+        Job job = jobMapper.toEntity(request);
+        job.setId(request.getId() != null ? request.getId() : UUID.randomUUID());
+        result.setId(job.getId());
+        return new Prepared(result, job);
+    }
+
+    private record Prepared(ItemResult result, Job job) {
+    }
+}
@@ -0,0 +1,150 @@
+package com.referralnode.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.referralnode.dto.JobResponse;
+import com.referralnode.entity.Job;
+import com.referralnode.mapper.JobMapper;
+import com.referralnode.repository.JobRepository;
+import com.referralnode.search.TagMode;
+import com.referralnode.specification.JobSpecification;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Stream;
+
+/**
+ * Streams the job catalog as NDJSON or CSV straight from a database cursor.
+ * Rows are written as they are read, so heap usage does not grow with the export size.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class JobExportService {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private static final String[] CSV_HEADER = {
+            "id", "title", "company", "location", "salaryRange", "postedAt",
+            "sourceUrl", "tags", "createdAt", "description"
+    };
+
+    private final JobRepository jobRepository;
+    private final JobMapper jobMapper;
+    private final ObjectMapper objectMapper;
+
+    @Getter
+    public enum Format {
+        NDJSON("application/x-ndjson", "ndjson"),
+        CSV("text/csv", "csv");
+
+        private final String contentType;
+        private final String extension;
+
+        Format(String contentType, String extension) {
+            this.contentType = contentType;
+            this.extension = extension;
+        }
+
+        public static Format parse(String value) {
+            try {
+                return Format.valueOf(value.trim().toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException ex) {
+                throw new IllegalArgumentException("Invalid format '" + value + "', expected ndjson or csv");
+            }
+        }
+    }
+
+    /**
+     * Write every job matching the filters to the output stream
+     * @return number of jobs written
+     */
+    @Transactional(readOnly = true)
+    public long export(Format format, String company, String location, String title, List<String> tags,
+                       TagMode tagMode, OutputStream out) throws IOException {
+        long rows;
+        try (Stream<Job> jobs = jobRepository.streamAll(JobSpecification.filterJobs(company, location, title, tags, tagMode))) {
+            OutputStream buffered = new BufferedOutputStream(out, BUFFER_SIZE);
+            rows = format == Format.CSV
+                    ? writeCsv(jobs.iterator(), buffered)
+                    : writeNdjson(jobs.iterator(), buffered);
+            buffered.flush();
+        }
+        log.info("Exported {} jobs as {}", rows, format);
+        return rows;
+    }
+
+    private long writeNdjson(Iterator<Job> jobs, OutputStream out) throws IOException {
+        // One generator for the whole export; values are separated by newlines instead of spaces
+        ObjectWriter writer = objectMapper.writerFor(JobResponse.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+                .without(SerializationFeature.CLOSE_CLOSEABLE);
+        long rows = 0;
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.setRootValueSeparator(null);
+            while (jobs.hasNext()) {
+                writer.writeValue(generator, jobMapper.toResponse(jobs.next()));
+                generator.writeRaw('\n');
+                rows++;
+            }
+        }
+        return rows;
+    }
+
+    private long writeCsv(Iterator<Job> jobs, OutputStream out) throws IOException {
+        Writer writer = new OutputStreamWriter(out, StandardCharsets.UTF_8);
+        writeCsvRow(writer, CSV_HEADER);
+        long rows = 0;
+        while (jobs.hasNext()) {
+            Job job = jobs.next();
+            writeCsvRow(writer, new String[]{
+                    String.valueOf(job.getId()),
+                    job.getTitle(),
+                    job.getCompany(),
+                    job.getLocation(),
+                    job.getSalaryRange(),
+                    job.getPostedAt() == null ? null : job.getPostedAt().toString(),
+                    job.getSourceUrl(),
+                    job.getTags() == null ? null : String.join(";", job.getTags()),
+                    job.getCreatedAt() == null ? null : job.getCreatedAt().toString(),
+                    job.getDescription()
+            });
+            rows++;
+        }
+        writer.flush();
+        return rows;
+    }
+
+    // RFC 4180: quote values containing separators, quotes or line breaks, doubling embedded quotes
+    private static void writeCsvRow(Writer writer, String[] values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            String value = values[i];
+            if (value == null) {
+                continue;
+            }
+            if (value.indexOf(',') < 0 && value.indexOf('"') < 0
+                    && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+                writer.write(value);
+            } else {
+                writer.write('"');
+                writer.write(value.replace("\"", "\"\""));
+                writer.write('"');
+            }
+        }
+        writer.write("\r\n");
+    }
+}
@@ -0,0 +1,110 @@
+package com.referralnode.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.referralnode.dto.JobFragment;
+import com.referralnode.entity.Job;
+import com.referralnode.event.JobChangedEvent;
+import com.referralnode.mapper.JobMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Pre-serialized listing entries: each job's response JSON, keyed by id and tagged with the
+ * job's version (updatedAt, or createdAt for a job never updated).
+ * <p>
+ * Listing queries still load the rows, but a job whose version matches its cached fragment is
+ * neither mapped to a JobResponse nor serialized again. A mismatch, which is what a write in
+ * another instance looks like, replaces the fragment; writes here also drop it after commit.
+ */
+@Component
+public class JobFragmentCache implements MeterBinder {
+
+    private static final int ENTRY_OVERHEAD_BYTES = 128;
+
+    private final JobMapper jobMapper;
+    private final ObjectMapper objectMapper;
+    private final Cache<UUID, Entry> cache;
+
+    public JobFragmentCache(
+            JobMapper jobMapper,
+            ObjectMapper objectMapper,
+            @Value("${job.fragment-cache.max-weight-bytes:33554432}") long maxWeightBytes) {
+        this.jobMapper = jobMapper;
+        this.objectMapper = objectMapper;
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxWeightBytes)
+                .weigher((UUID id, Entry entry) -> entry.weight())
+                .recordStats()
+                .build();
+    }
+
+    private record Entry(LocalDateTime version, JobFragment fragment) {
+
+        // The JSON is held both as a String and as UTF-8 bytes
+        int weight() {
+            return ENTRY_OVERHEAD_BYTES + fragment.size() * 2;
+        }
+    }
+
+    public JobFragment get(Job job) {
+        LocalDateTime version = versionOf(job);
+        if (version == null) {
+            return serialize(job);
+        }
+        Entry entry = cache.getIfPresent(job.getId());
+        if (entry == null || !entry.version().equals(version)) {
+            entry = new Entry(version, serialize(job));
+            cache.put(job.getId(), entry);
+        }
+        return entry.fragment();
+    }
+
+    public List<JobFragment> getAll(List<Job> jobs) {
+        return jobs.stream()
+                .map(this::get)
+                .toList();
+    }
+
+    /**
+     * Hits, misses and evictions as cache.* meters tagged cache=job-fragments
+     */
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, cache, "job-fragments");
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onJobChanged(JobChangedEvent event) {
+        switch (event.getType()) {
+            // Evict rather than replace: the in-memory updatedAt may be more precise than the
+            // stored one, and an entry built from it would then never match a row read back
+            case UPDATED, DELETED -> cache.invalidate(event.getJobId());
+            case CREATED -> {
+                // Nothing cached yet; the first listing that includes it serializes it
+            }
+        }
+    }
+
+    private JobFragment serialize(Job job) {
+        try {
+            return new JobFragment(objectMapper.writeValueAsString(jobMapper.toResponse(job)));
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Failed to serialize job " + job.getId(), ex);
+        }
+    }
+
+    private static LocalDateTime versionOf(Job job) {
+        return job.getUpdatedAt() != null ? job.getUpdatedAt() : job.getCreatedAt();
+    }
+}
@@ -0,0 +1,153 @@
+package com.referralnode.service;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.referralnode.dto.JobResponse;
+import com.referralnode.entity.Job;
+import com.referralnode.event.JobChangedEvent;
+import com.referralnode.mapper.JobMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+
+/**
+ * Bounded cache of job detail responses with their validators (ETag, Last-Modified).
+ * <p>
+ * Caffeine's W-TinyLFU policy keeps frequently viewed postings resident; entries are
+ * weighed by approximate size so a few huge descriptions cannot crowd out the rest.
+ * Writes replace or drop the entry after commit.
+ * <p>
+ * Misses are loaded on the calling thread, outside the cache's map lock: a synchronous
+ * Caffeine loader runs inside {@code ConcurrentHashMap.compute}, whose monitor would pin
+ * a virtual thread to its carrier for the whole database round trip. Concurrent readers
+ * of the same id still wait on a single load.
+ */
+@Component
+public class JobResponseCache {
+
+    private static final int ENTRY_OVERHEAD_BYTES = 256;
+
+    private final JobMapper jobMapper;
+    private final AsyncCache<UUID, CachedJob> cache;
+
+    public JobResponseCache(
+            JobMapper jobMapper,
+            @Value("${job.cache.max-weight-bytes:67108864}") long maxWeightBytes) {
+        this.jobMapper = jobMapper;
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxWeightBytes)
+                .weigher((UUID id, CachedJob job) -> job.weight())
+                .recordStats()
+                .buildAsync();
+    }
+
+    /**
+     * Response plus precomputed validators for conditional requests
+     */
+    public record CachedJob(JobResponse response, String representationHash, long lastModifiedMillis, int weight) {
+
+        /**
+         * Weak validator for one wire format. The bytes differ per format, so the format is part of the tag;
+         * weak because gzip also changes the bytes, and Tomcat will not compress a strong-ETag response.
+         */
+        public String etag(String format) {
+            return "W/\"" + representationHash + "-" + format + "\"";
+        }
+    }
+
+    public CachedJob get(UUID id, Function<UUID, Job> loader) {
+        CompletableFuture<CachedJob> created = new CompletableFuture<>();
+        CompletableFuture<CachedJob> future = cache.get(id, (key, executor) -> created);
+        if (future == created) {
+            try {
+                created.complete(toCached(loader.apply(id)));
+            } catch (Throwable ex) {
+                // Failed futures are dropped by the cache, so the next reader retries
+                created.completeExceptionally(ex);
+            }
+        }
+
+        try {
+            return future.join();
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (ex.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw ex;
+        }
+    }
+
+    public CacheStats stats() {
+        return cache.synchronous().stats();
+    }
+
+    public long estimatedSize() {
+        return cache.synchronous().estimatedSize();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onJobChanged(JobChangedEvent event) {
+        switch (event.getType()) {
+            // Replace rather than evict so the next viewer does not pay a DB round trip
+            case UPDATED -> cache.put(event.getJobId(), CompletableFuture.completedFuture(toCached(event.getJob())));
+            case DELETED -> cache.synchronous().invalidate(event.getJobId());
+            case CREATED -> {
+                // Nothing cached yet; first reader populates it
+            }
+        }
+    }
+
+    private CachedJob toCached(Job job) {
+        JobResponse response = jobMapper.toResponse(job);
+        LocalDateTime modified = job.getUpdatedAt() != null ? job.getUpdatedAt() : job.getCreatedAt();
+        long lastModified = modified == null ? 0L
+                : modified.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        return new CachedJob(response, hashOf(response), lastModified, weigh(response));
+    }
+
+    // Hash over every field of the representation, shared by all wire formats
+    private static String hashOf(JobResponse response) {
+        String content = String.join("\u0000",
+                String.valueOf(response.getId()),
+                Objects.toString(response.getTitle(), ""),
+                Objects.toString(response.getCompany(), ""),
+                Objects.toString(response.getLocation(), ""),
+                Objects.toString(response.getDescription(), ""),
+                Objects.toString(response.getSalaryRange(), ""),
+                String.valueOf(response.getPostedAt()),
+                Objects.toString(response.getSourceUrl(), ""),
+                String.valueOf(response.getTags()),
+                String.valueOf(response.getCreatedAt()));
+        return DigestUtils.md5DigestAsHex(content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static int weigh(JobResponse response) {
+        long chars = length(response.getTitle()) + length(response.getCompany())
+                + length(response.getLocation()) + length(response.getDescription())
+                + length(response.getSalaryRange()) + length(response.getSourceUrl());
+        if (response.getTags() != null) {
+            for (String tag : response.getTags()) {
+                chars += length(tag);
+            }
+        }
+        return (int) Math.min(Integer.MAX_VALUE, ENTRY_OVERHEAD_BYTES + chars * 2);
+    }
+
+    private static long length(String value) {
+        return value == null ? 0 : value.length();
+    }
+}
@@ -1,30 +1,51 @@
 package com.referralnode.service;
 
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.referralnode.datasource.ReadRouting;
+import com.referralnode.dedupe.JobDeduplicator;
+import com.referralnode.dto.CacheStatsResponse;
+import com.referralnode.dto.CursorPageResponse;
+import com.referralnode.dto.JobFragment;
 import com.referralnode.dto.JobRequest;
 import com.referralnode.dto.JobResponse;
+import com.referralnode.dto.JobSummary;
 import com.referralnode.dto.PageResponse;
 import com.referralnode.entity.Job;
+import com.referralnode.event.JobChangedEvent;
+import com.referralnode.exception.DuplicateJobException;
 import com.referralnode.exception.ResourceNotFoundException;
 import com.referralnode.mapper.JobMapper;
+import com.referralnode.metrics.QueryMetrics;
 import com.referralnode.repository.JobRepository;
+import com.referralnode.search.ApproximateCountCache;
+import com.referralnode.search.FacetField;
+import com.referralnode.search.FacetIndex;
+import com.referralnode.search.JobSearchCriteria;
+import com.referralnode.search.JobSearchEngine;
+import com.referralnode.search.TagMode;
+import com.referralnode.search.TotalMode;
 import com.referralnode.specification.JobSpecification;
+import com.referralnode.util.KeysetCursor;
 import com.referralnode.util.RichTextUtil;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
-import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
-import java.util.Random;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
 @Service
+@Timed(value = "referralnode.service", histogram = true)
 @RequiredArgsConstructor
 @Slf4j
 public class JobService {
@@ -32,32 +53,208 @@ public class JobService {
     private final JobRepository jobRepository;
     private final JobMapper jobMapper;
     private final RichTextUtil richTextUtil;
+    private final ApplicationEventPublisher eventPublisher;
+    private final JobSearchEngine jobSearchEngine;
+    private final ApproximateCountCache approximateCountCache;
+    private final JobResponseCache jobResponseCache;
+    private final JobFragmentCache jobFragmentCache;
+    private final JobDeduplicator jobDeduplicator;
+    private final QueryMetrics queryMetrics;
+    private final FacetIndex facetIndex;
 
     /**
-     * Get all jobs with filters and pagination
+     * Get all jobs with filters and pagination, plus the top facetSize values of each requested facet
      */
-    public PageResponse<JobResponse> getJobsWithFilters(
+    @Transactional(readOnly = true)
+    public PageResponse<JobFragment> getJobsWithFilters(
             Pageable pageable,
             String company,
             String location,
             String title,
-            List<String> tags) {
-        
-        Specification<Job> spec = JobSpecification.filterJobs(company, location, title, tags);
-        Page<Job> jobPage = jobRepository.findAll(spec, pageable);
-        
-        List<JobResponse> jobResponses = jobPage.getContent().stream()
-                .map(jobMapper::toResponse)
-                .collect(Collectors.toList());
-        
-        return PageResponse.<JobResponse>builder()
-                .content(jobResponses)
-                .pageNumber(jobPage.getNumber())
-                .pageSize(jobPage.getSize())
-                .totalElements(jobPage.getTotalElements())
-                .totalPages(jobPage.getTotalPages())
-                .first(jobPage.isFirst())
-                .last(jobPage.isLast())
+            List<String> tags,
+            TagMode tagMode,
+            TotalMode totalMode,
+            List<FacetField> facets,
+            int facetSize) {
+        
+        JobSearchCriteria criteria = JobSearchCriteria.builder()
+                .company(company)
+                .location(location)
+                .title(title)
+                .tags(tags)
+                .tagMode(tagMode)
+                .build();
+        return list(criteria, pageable, totalMode, facets, facetSize);
+    }
+
+    /**
+     * Full-text search ranked by relevance, with the same optional filters and facets as the listing
+     */
+    @Transactional(readOnly = true)
+    public PageResponse<JobFragment> searchJobs(
+            String query,
+            int page,
+            int size,
+            String company,
+            String location,
+            String title,
+            List<String> tags,
+            TagMode tagMode,
+            TotalMode totalMode,
+            List<FacetField> facets,
+            int facetSize) {
+        
+        JobSearchCriteria criteria = JobSearchCriteria.builder()
+                .query(query)
+                .company(company)
+                .location(location)
+                .title(title)
+                .tags(tags)
+                .tagMode(tagMode)
+                .build();
+        return list(criteria, PageRequest.of(page, size), totalMode, facets, facetSize);
+    }
+
+    private PageResponse<JobFragment> list(
+            JobSearchCriteria criteria,
+            Pageable pageable,
+            TotalMode totalMode,
+            List<FacetField> facets,
+            int facetSize) {
+        
+        PageResponse<JobFragment> response = page(criteria, pageable, totalMode);
+        if (!facets.isEmpty()) {
+            response.setFacets(queryMetrics.record("facets", criteria,
+                    () -> facetIndex.count(criteria, facets, facetSize)));
+        }
+        return response;
+    }
+
+    private PageResponse<JobFragment> page(JobSearchCriteria criteria, Pageable pageable, TotalMode totalMode) {
+        if (totalMode == TotalMode.EXACT) {
+            Page<Job> jobPage = queryMetrics.record("page", criteria, () -> jobSearchEngine.search(criteria, pageable));
+            return toPageResponse(jobFragmentCache.getAll(jobPage.getContent()), pageable, jobPage.getTotalElements(),
+                    jobPage.isLast(), TotalMode.EXACT);
+        }
+        
+        // Slice fetches size+1 rows instead of running a count query
+        Slice<Job> slice = queryMetrics.record("slice", criteria, () -> jobSearchEngine.searchSlice(criteria, pageable));
+        return withTotals(jobFragmentCache.getAll(slice.getContent()), slice.hasNext(), criteria, pageable, totalMode);
+    }
+
+    private <T> PageResponse<T> withTotals(
+            List<T> content,
+            boolean hasNext,
+            JobSearchCriteria criteria,
+            Pageable pageable,
+            TotalMode totalMode) {
+        
+        long seen = pageable.getOffset() + content.size();
+        if (!hasNext && (!content.isEmpty() || pageable.getOffset() == 0)) {
+            // On the last page the exact total is known for free
+            return toPageResponse(content, pageable, seen, true, TotalMode.EXACT);
+        }
+        if (totalMode == TotalMode.EXACT) {
+            long total = queryMetrics.record("count", criteria, () -> jobSearchEngine.count(criteria));
+            return toPageResponse(content, pageable, total, !hasNext, TotalMode.EXACT);
+        }
+        if (totalMode == TotalMode.NONE) {
+            return toPageResponse(content, pageable, -1, !hasNext, TotalMode.NONE);
+        }
+        
+        // Never report fewer rows than we know exist
+        long lowerBound = hasNext ? seen + 1 : 0;
+        long estimate = approximateCountCache.estimate(criteria);
+        long total = Math.max(estimate, lowerBound);
+        return toPageResponse(content, pageable, total, !hasNext, TotalMode.APPROX);
+    }
+
+    /**
+     * Get job summaries with only the requested columns selected and serialized.
+     * The description is never loaded; descriptionPreview is precomputed at write time.
+     */
+    @Transactional(readOnly = true)
+    public PageResponse<JobSummary> getJobSummaries(
+            Pageable pageable,
+            String company,
+            String location,
+            String title,
+            List<String> tags,
+            TagMode tagMode,
+            List<String> fields,
+            TotalMode totalMode) {
+        
+        JobSearchCriteria criteria = JobSearchCriteria.builder()
+                .company(company)
+                .location(location)
+                .title(title)
+                .tags(tags)
+                .tagMode(tagMode)
+                .build();
+        Specification<Job> spec = JobSpecification.filterJobs(company, location, title, tags, tagMode);
+        
+        List<String> columns = JobSummary.resolveFields(fields);
+        Slice<JobSummary> slice = queryMetrics.record("summary", criteria,
+                () -> jobRepository.findSummarySlice(spec, pageable, columns));
+        return withTotals(slice.getContent(), slice.hasNext(), criteria, pageable, totalMode);
+    }
+
+    /**
+     * Get jobs using keyset (cursor) pagination; every page costs the same regardless of depth.
+     * The cursor, when present, carries the sort and takes precedence over sortBy/sortDir.
+     */
+    @Transactional(readOnly = true)
+    public CursorPageResponse<JobFragment> getJobsByCursor(
+            String cursor,
+            int size,
+            String sortBy,
+            boolean ascending,
+            String company,
+            String location,
+            String title,
+            List<String> tags,
+            TagMode tagMode) {
+        
+        KeysetCursor position = cursor == null || cursor.isBlank() ? null : KeysetCursor.decode(cursor);
+        String sortField = position != null ? position.sortBy() : sortBy;
+        boolean sortAscending = position != null ? position.ascending() : ascending;
+        if (!KeysetCursor.SORTABLE.contains(sortField)) {
+            throw new IllegalArgumentException("Cursor pagination supports sortBy " + KeysetCursor.SORTABLE);
+        }
+        
+        JobSearchCriteria criteria = JobSearchCriteria.builder()
+                .company(company)
+                .location(location)
+                .title(title)
+                .tags(tags)
+                .tagMode(tagMode)
+                .build();
+        Specification<Job> filters = JobSpecification.filterJobs(company, location, title, tags, tagMode)
+                .and(JobSpecification.hasSortValue(sortField));
+        Specification<Job> spec = position == null ? filters : filters.and(JobSpecification.after(position));
+        
+        // id breaks ties so the order is total and stable under concurrent inserts
+        Sort.Direction direction = sortAscending ? Sort.Direction.ASC : Sort.Direction.DESC;
+        Sort sort = Sort.by(direction, sortField).and(Sort.by(direction, "id"));
+        
+        // Fetch one extra row to learn whether another page exists, without a count query
+        List<Job> rows = queryMetrics.record("cursor", criteria,
+                () -> jobRepository.findBy(spec, query -> query.sortBy(sort).limit(size + 1).all()));
+        boolean hasNext = rows.size() > size;
+        List<Job> pageRows = hasNext ? rows.subList(0, size) : rows;
+        
+        String nextCursor = null;
+        if (hasNext) {
+            Job tail = pageRows.get(pageRows.size() - 1);
+            LocalDateTime tailValue = "createdAt".equals(sortField) ? tail.getCreatedAt() : tail.getPostedAt();
+            nextCursor = new KeysetCursor(sortField, sortAscending, tailValue, tail.getId()).encode();
+        }
+        
+        return CursorPageResponse.<JobFragment>builder()
+                .content(jobFragmentCache.getAll(pageRows))
+                .pageSize(size)
+                .nextCursor(nextCursor)
+                .last(!hasNext)
                 .build();
     }
 
@@ -65,9 +262,33 @@ public class JobService {
      * Get a single job by ID
      */
     public JobResponse getJobById(UUID id) {
-        Job job = jobRepository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("Job not found with id: " + id));
-        return jobMapper.toResponse(job);
+        return getCachedJob(id).response();
+    }
+
+    /**
+     * Get a single job by ID along with its ETag and Last-Modified validators
+     */
+    public JobResponseCache.CachedJob getCachedJob(UUID id) {
+        // Cached until the next change event, so load from the primary; a replica copy could be stale
+        return jobResponseCache.get(id, key -> ReadRouting.onPrimary(() -> jobRepository.findById(key))
+                .orElseThrow(() -> new ResourceNotFoundException("Job not found with id: " + key)));
+    }
+
+    /**
+     * Hit/miss/eviction statistics of the job detail cache
+     */
+    public CacheStatsResponse getJobCacheStats() {
+        CacheStats stats = jobResponseCache.stats();
+        return CacheStatsResponse.builder()
+                .size(jobResponseCache.estimatedSize())
+                .hitCount(stats.hitCount())
+                .missCount(stats.missCount())
+                .hitRate(stats.hitRate())
+                .evictionCount(stats.evictionCount())
+                .evictionWeight(stats.evictionWeight())
+                .loadFailureCount(stats.loadFailureCount())
+                .averageLoadPenaltyMillis(stats.averageLoadPenalty() / 1_000_000.0)
+                .build();
     }
 
     /**
@@ -76,7 +297,14 @@ public class JobService {
     @Transactional
     public JobResponse createJob(JobRequest request) {
         Job job = jobMapper.toEntity(request);
+        
+        JobDeduplicator.Match match = jobDeduplicator.classify(job);
+        if (match.outcome() != JobDeduplicator.Outcome.NEW) {
+            throw new DuplicateJobException(duplicateMessage(match));
+        }
+        
         Job savedJob = jobRepository.save(job);
+        eventPublisher.publishEvent(JobChangedEvent.created(savedJob));
         log.info("Created new job: {} at {}", savedJob.getTitle(), savedJob.getCompany());
         return jobMapper.toResponse(savedJob);
     }
@@ -90,7 +318,15 @@ public class JobService {
                 .orElseThrow(() -> new ResourceNotFoundException("Job not found with id: " + id));
         
         jobMapper.updateEntity(job, request);
+        
+        // Only a clash with another job matters; matching this job's own stored keys is expected
+        JobDeduplicator.Match match = jobDeduplicator.classify(job);
+        if (match.existing() != null && !match.existing().id().equals(id)) {
+            throw new DuplicateJobException(duplicateMessage(match));
+        }
+        
         Job updatedJob = jobRepository.save(job);
+        eventPublisher.publishEvent(JobChangedEvent.updated(updatedJob));
         log.info("Updated job: {} (ID: {})", updatedJob.getTitle(), id);
         return jobMapper.toResponse(updatedJob);
     }
@@ -104,41 +340,36 @@ public class JobService {
             throw new ResourceNotFoundException("Job not found with id: " + id);
         }
         jobRepository.deleteById(id);
+        eventPublisher.publishEvent(JobChangedEvent.deleted(id));
         log.info("Deleted job with ID: {}", id);
     }
 
-    // Mock Job Fetcher - Runs every minute to simulate scanning
-    @Scheduled(fixedRate = 60000)
-    @Transactional
-    public void fetchMockJobs() {
-        log.info("Running scheduled job fetch...");
-        
-        // Only add if we have fewer than 50 jobs to avoid cluttering DB while testing
-        if (jobRepository.count() > 50) {
-            return;
-        }
-
-        Job mockJob = createMockJob();
-        jobRepository.save(mockJob);
-        log.info("Saved new mock job: {} at {}", mockJob.getTitle(), mockJob.getCompany());
+    private static String duplicateMessage(JobDeduplicator.Match match) {
+        return match.outcome() == JobDeduplicator.Outcome.DUPLICATE
+                ? "A job with the same content already exists with id: " + match.existing().id()
+                : "A job with this source URL already exists with id: " + match.existing().id();
     }
 
-    private Job createMockJob() {
-        String[] titles = {"Senior Java Developer", "React Frontend Engineer", "Full Stack Architect", "DevOps Engineer"};
-        String[] companies = {"Google", "Amazon", "Netflix", "Startup Inc", "TechFlow"};
-        String[] locations = {"Remote", "New York, NY", "San Francisco, CA", "Austin, TX"};
-        
-        Random rand = new Random();
-        
-        return Job.builder()
-                .title(titles[rand.nextInt(titles.length)])
-                .company(companies[rand.nextInt(companies.length)])
-                .location(locations[rand.nextInt(locations.length)])
-                .description("We are looking for a talented engineer to join our team. \n\n### Requirements:\n- Java 21\n- Spring Boot\n- React")
-                .salaryRange("$" + (100 + rand.nextInt(50)) + "k - $" + (160 + rand.nextInt(40)) + "k")
-                .postedAt(LocalDateTime.now().minusHours(rand.nextInt(24)))
-                .sourceUrl("https://linkedin.com/jobs/view/123456")
-                .tags(List.of("Java", "Spring Boot", "React", "Remote"))
+    private <T> PageResponse<T> toPageResponse(
+            List<T> content,
+            Pageable pageable,
+            long totalElements,
+            boolean last,
+            TotalMode totalMode) {
+        
+        int totalPages = totalElements < 0
+                ? -1
+                : (int) Math.ceil((double) totalElements / pageable.getPageSize());
+        
+        return PageResponse.<T>builder()
+                .content(content)
+                .pageNumber(pageable.getPageNumber())
+                .pageSize(pageable.getPageSize())
+                .totalElements(totalElements)
+                .totalPages(totalPages)
+                .first(pageable.getPageNumber() == 0)
+                .last(last)
+                .totalMode(totalMode.name().toLowerCase())
                 .build();
     }
 }
@@ -0,0 +1,155 @@
+package com.referralnode.service;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Hour-resolution counter of job postings stored as one primitive array per day.
+ * <p>
+ * Each day holds 24 hourly slots plus a running day total, so a daily series
+ * over a year costs one array read per day and a weekly one seven.
+ * Not thread-safe; callers guard access.
+ */
+public class PostingHistogram {
+
+    public enum Granularity {
+        HOUR(ChronoUnit.HOURS),
+        DAY(ChronoUnit.DAYS),
+        WEEK(ChronoUnit.WEEKS);
+
+        private final ChronoUnit unit;
+
+        Granularity(ChronoUnit unit) {
+            this.unit = unit;
+        }
+
+        public ChronoUnit getUnit() {
+            return unit;
+        }
+
+        /**
+         * Truncate a timestamp to the start of its bucket (weeks start on Monday)
+         */
+        public LocalDateTime align(LocalDateTime time) {
+            return switch (this) {
+                case HOUR -> time.truncatedTo(ChronoUnit.HOURS);
+                case DAY -> time.toLocalDate().atStartOfDay();
+                case WEEK -> time.toLocalDate()
+                        .with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY))
+                        .atStartOfDay();
+            };
+        }
+
+        /**
+         * Number of buckets needed to cover [alignedFrom, to)
+         */
+        public long bucketCount(LocalDateTime alignedFrom, LocalDateTime to) {
+            long units = unit.between(alignedFrom, to);
+            return alignedFrom.plus(units, unit).isBefore(to) ? units + 1 : units;
+        }
+    }
+
+    private static final int HOURS = 24;
+    private static final int DAY_TOTAL = HOURS;
+
+    // epochDay -> [hour 0..23 counts, day total]
+    private final Map<Long, int[]> days = new HashMap<>();
+
+    public void add(LocalDateTime time, int delta) {
+        long day = time.toLocalDate().toEpochDay();
+        int[] slots = days.computeIfAbsent(day, d -> new int[HOURS + 1]);
+        slots[time.getHour()] += delta;
+        slots[DAY_TOTAL] += delta;
+        if (slots[DAY_TOTAL] <= 0) {
+            days.remove(day);
+        }
+    }
+
+    public boolean isEmpty() {
+        return days.isEmpty();
+    }
+
+    /**
+     * Per-bucket counts starting at an aligned bucket boundary
+     */
+    public long[] counts(Granularity granularity, LocalDateTime alignedFrom, int buckets) {
+        long[] out = new long[buckets];
+        long day = alignedFrom.toLocalDate().toEpochDay();
+
+        switch (granularity) {
+            case HOUR -> {
+                int hour = alignedFrom.getHour();
+                int[] slots = days.get(day);
+                for (int i = 0; i < buckets; i++) {
+                    if (slots != null) {
+                        out[i] = slots[hour];
+                    }
+                    if (++hour == HOURS) {
+                        hour = 0;
+                        slots = days.get(++day);
+                    }
+                }
+            }
+            case DAY -> {
+                for (int i = 0; i < buckets; i++) {
+                    out[i] = dayTotal(day + i);
+                }
+            }
+            case WEEK -> {
+                for (int i = 0; i < buckets; i++) {
+                    long sum = 0;
+                    for (int d = 0; d < 7; d++) {
+                        sum += dayTotal(day++);
+                    }
+                    out[i] = sum;
+                }
+            }
+        }
+        return out;
+    }
+
+    /**
+     * Exact number of postings in [from, to)
+     */
+    public long sum(LocalDateTime from, LocalDateTime to) {
+        if (!from.isBefore(to)) {
+            return 0;
+        }
+        LocalDate firstDay = from.toLocalDate();
+        LocalDate lastDay = to.toLocalDate();
+        if (firstDay.equals(lastDay)) {
+            return hourRange(firstDay.toEpochDay(), from.getHour(), to.getHour());
+        }
+
+        long total = hourRange(firstDay.toEpochDay(), from.getHour(), HOURS);
+        for (long day = firstDay.toEpochDay() + 1; day < lastDay.toEpochDay(); day++) {
+            total += dayTotal(day);
+        }
+        return total + hourRange(lastDay.toEpochDay(), 0, to.getHour());
+    }
+
+    private long dayTotal(long day) {
+        int[] slots = days.get(day);
+        return slots == null ? 0 : slots[DAY_TOTAL];
+    }
+
+    private long hourRange(long day, int fromHour, int toHour) {
+        int[] slots = days.get(day);
+        if (slots == null) {
+            return 0;
+        }
+        if (fromHour == 0 && toHour == HOURS) {
+            return slots[DAY_TOTAL];
+        }
+        long total = 0;
+        for (int h = fromHour; h < toHour; h++) {
+            total += slots[h];
+        }
+        return total;
+    }
+}
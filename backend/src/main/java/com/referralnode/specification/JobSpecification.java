@@ -1,11 +1,17 @@
 package com.referralnode.specification;
 
 import com.referralnode.entity.Job;
+import com.referralnode.search.TagMode;
+import com.referralnode.util.KeysetCursor;
+import com.referralnode.util.TagNormalizer;
+import jakarta.persistence.criteria.Path;
 import jakarta.persistence.criteria.Predicate;
 import org.springframework.data.jpa.domain.Specification;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.UUID;
 
 public class JobSpecification {
     
@@ -13,8 +19,10 @@ public class JobSpecification {
             String company,
             String location,
             String title,
-            List<String> tags) {
+            List<String> tags,
+            TagMode tagMode) {
         
+        List<String> wanted = TagNormalizer.normalize(tags);
         return (root, query, criteriaBuilder) -> {
             List<Predicate> predicates = new ArrayList<>();
             
@@ -42,24 +50,66 @@ public class JobSpecification {
                 ));
             }
             
-            // Filter by tags (check if any tag matches)
-            if (tags != null && !tags.isEmpty()) {
-                List<Predicate> tagPredicates = new ArrayList<>();
-                for (String tag : tags) {
-                    // PostgreSQL array contains check
-                    tagPredicates.add(criteriaBuilder.isTrue(
-                            criteriaBuilder.function(
-                                    "array_contains",
-                                    Boolean.class,
-                                    root.get("tags"),
-                                    criteriaBuilder.literal(tag.trim())
-                            )
-                    ));
-                }
-                predicates.add(criteriaBuilder.or(tagPredicates.toArray(new Predicate[0])));
+            // Filter by tags: && (any) or @> (all) against the lowercase stored tags, both GIN-indexed
+            if (wanted != null && !wanted.isEmpty()) {
+                String operator = tagMode == TagMode.ALL ? TagArrayFunctions.CONTAINS_ALL : TagArrayFunctions.OVERLAPS;
+                predicates.add(criteriaBuilder.isTrue(
+                        criteriaBuilder.function(
+                                operator,
+                                Boolean.class,
+                                root.get("tags"),
+                                criteriaBuilder.literal(wanted.toArray(new String[0]))
+                        )
+                ));
             }
             
             return criteriaBuilder.and(predicates.toArray(new Predicate[0]));
         };
     }
+    
+    public static Specification<Job> matchesText(String text) {
+        
+        return (root, query, criteriaBuilder) -> {
+            // Case-insensitive partial match on title, company or description
+            String pattern = "%" + text.trim().toLowerCase() + "%";
+            return criteriaBuilder.or(
+                    criteriaBuilder.like(criteriaBuilder.lower(root.get("title")), pattern),
+                    criteriaBuilder.like(criteriaBuilder.lower(root.get("company")), pattern),
+                    criteriaBuilder.like(criteriaBuilder.lower(root.get("description")), pattern)
+            );
+        };
+    }
+    
+    public static Specification<Job> idAfter(UUID lastId) {
+        
+        // No bound before the first batch
+        return (root, query, criteriaBuilder) -> lastId == null
+                ? null
+                : criteriaBuilder.greaterThan(root.<UUID>get("id"), lastId);
+    }
+    
+    public static Specification<Job> after(KeysetCursor cursor) {
+        
+        return (root, query, criteriaBuilder) -> {
+            // Seek past (value, id) in the cursor's sort direction, as one row-value comparison
+            Path<LocalDateTime> value = root.get(cursor.sortBy());
+            Path<UUID> id = root.get("id");
+            return criteriaBuilder.isTrue(
+                    criteriaBuilder.function(
+                            cursor.ascending() ? KeysetFunctions.ROW_AFTER : KeysetFunctions.ROW_BEFORE,
+                            Boolean.class,
+                            value,
+                            id,
+                            criteriaBuilder.literal(cursor.value()),
+                            criteriaBuilder.literal(cursor.id())
+                    )
+            );
+        };
+    }
+    
+    public static Specification<Job> hasSortValue(String sortBy) {
+        
+        // A row without a sort value has no position in the keyset order, so cursor listings skip it
+        return (root, query, criteriaBuilder) -> criteriaBuilder.isNotNull(root.get(sortBy));
+    }
 }
@@ -0,0 +1,40 @@
+package com.referralnode.specification;
+
+import org.hibernate.boot.model.FunctionContributions;
+import org.hibernate.boot.model.FunctionContributor;
+import org.hibernate.type.BasicType;
+import org.hibernate.type.StandardBasicTypes;
+
+/**
+ * Row-value comparisons for keyset seeks, which JPA has no syntax for. PostgreSQL turns
+ * {@code (col, id) < (v, i)} into one range scan of the (col, id) composite index, where the
+ * expanded {@code col < v OR (col = v AND id < i)} form may not use it.
+ * <ul>
+ *   <li>{@value #ROW_AFTER}(col, id, v, i): {@code (col, id) > (v, i)}</li>
+ *   <li>{@value #ROW_BEFORE}(col, id, v, i): {@code (col, id) < (v, i)}</li>
+ * </ul>
+ * Registered through META-INF/services/org.hibernate.boot.model.FunctionContributor.
+ */
+public class KeysetFunctions implements FunctionContributor {
+    
+    public static final String ROW_AFTER = "row_after";
+    public static final String ROW_BEFORE = "row_before";
+    
+    @Override
+    public void contributeFunctions(FunctionContributions functionContributions) {
+        BasicType<Boolean> booleanType = functionContributions.getTypeConfiguration()
+                .getBasicTypeRegistry()
+                .resolve(StandardBasicTypes.BOOLEAN);
+        
+        functionContributions.getFunctionRegistry()
+                .patternDescriptorBuilder(ROW_AFTER, "((?1, ?2) > (?3, ?4))")
+                .setInvariantType(booleanType)
+                .setExactArgumentCount(4)
+                .register();
+        functionContributions.getFunctionRegistry()
+                .patternDescriptorBuilder(ROW_BEFORE, "((?1, ?2) < (?3, ?4))")
+                .setInvariantType(booleanType)
+                .setExactArgumentCount(4)
+                .register();
+    }
+}
@@ -0,0 +1,40 @@
+package com.referralnode.specification;
+
+import org.hibernate.boot.model.FunctionContributions;
+import org.hibernate.boot.model.FunctionContributor;
+import org.hibernate.type.BasicType;
+import org.hibernate.type.StandardBasicTypes;
+
+/**
+ * PostgreSQL array operators for Criteria queries on {@code jobs.tags}, which JPA has no
+ * syntax for. Both are served by the GIN index idx_jobs_tags.
+ * <ul>
+ *   <li>{@value #OVERLAPS}(tags, values): {@code tags && values}, at least one value present</li>
+ *   <li>{@value #CONTAINS_ALL}(tags, values): {@code tags @> values}, every value present</li>
+ * </ul>
+ * Registered through META-INF/services/org.hibernate.boot.model.FunctionContributor.
+ */
+public class TagArrayFunctions implements FunctionContributor {
+    
+    public static final String OVERLAPS = "tags_overlap";
+    public static final String CONTAINS_ALL = "tags_contain_all";
+    
+    @Override
+    public void contributeFunctions(FunctionContributions functionContributions) {
+        BasicType<Boolean> booleanType = functionContributions.getTypeConfiguration()
+                .getBasicTypeRegistry()
+                .resolve(StandardBasicTypes.BOOLEAN);
+        
+        // The values are bound as one array parameter; the cast lines it up with the text[] column
+        functionContributions.getFunctionRegistry()
+                .patternDescriptorBuilder(OVERLAPS, "(?1 && cast(?2 as text[]))")
+                .setInvariantType(booleanType)
+                .setExactArgumentCount(2)
+                .register();
+        functionContributions.getFunctionRegistry()
+                .patternDescriptorBuilder(CONTAINS_ALL, "(?1 @> cast(?2 as text[]))")
+                .setInvariantType(booleanType)
+                .setExactArgumentCount(2)
+                .register();
+    }
+}
@@ -0,0 +1,334 @@
+package com.referralnode.sse;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.referralnode.dto.DashboardStatsResponse;
+import com.referralnode.dto.JobSummary;
+import com.referralnode.entity.Job;
+import com.referralnode.event.JobChangedEvent;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Live job feed for {@code GET /api/jobs/stream} (server-sent events).
+ * <p>
+ * Committed job changes are serialized once and published into a {@link JobEventRing}; the
+ * committing thread never waits on a client. Each subscriber is served by its own virtual
+ * thread that reads the ring from its own position, so a slow client only delays itself.
+ * A subscriber that falls a whole ring behind is either resynced (told to reload, then
+ * continued from the newest event) or dropped, per {@code jobs.stream.on-lag}. Resyncs of one
+ * subscriber are spaced by a backoff that doubles while it keeps lagging, so a bulk ingest
+ * bigger than the ring costs each client one reload per window instead of one per ring.
+ * <p>
+ * Event ids are {@code <epoch>-<sequence>}. A reconnect with {@code Last-Event-ID} resumes
+ * right after that event while it is still in the ring; otherwise, including after a restart
+ * (new epoch), the client gets a resync first.
+ */
+@Component
+@Slf4j
+public class JobEventBroadcaster implements MeterBinder {
+
+    public enum LagPolicy {
+        RESYNC,
+        DROP
+    }
+
+    private final ObjectMapper objectMapper;
+    private final JobEventRing ring;
+    private final LagPolicy lagPolicy;
+    private final long timeoutMillis;
+    private final long heartbeatNanos;
+    private final int maxSubscribers;
+    private final long resyncBackoffNanos;
+    private final long maxResyncBackoffNanos;
+
+    // Distinguishes this process's sequences from a previous one's
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    // Reserved before a subscriber is created and released when its thread ends; bounds subscribers
+    private final AtomicInteger slots = new AtomicInteger();
+    private final AtomicLong subscriberIds = new AtomicLong();
+    private final LongAdder resyncs = new LongAdder();
+    private final LongAdder drops = new LongAdder();
+
+    private final Thread dispatcher;
+    private volatile boolean running = true;
+
+    public JobEventBroadcaster(
+            ObjectMapper objectMapper,
+            @Value("${jobs.stream.buffer-size:4096}") int bufferSize,
+            @Value("${jobs.stream.on-lag:resync}") String onLag,
+            @Value("${jobs.stream.timeout-ms:1800000}") long timeoutMillis,
+            @Value("${jobs.stream.heartbeat-ms:15000}") long heartbeatMillis,
+            @Value("${jobs.stream.max-subscribers:10000}") int maxSubscribers,
+            @Value("${jobs.stream.resync-backoff-ms:1000}") long resyncBackoffMillis,
+            @Value("${jobs.stream.max-resync-backoff-ms:30000}") long maxResyncBackoffMillis) {
+        this.objectMapper = objectMapper;
+        this.ring = new JobEventRing(bufferSize);
+        this.lagPolicy = LagPolicy.valueOf(onLag.trim().toUpperCase(Locale.ROOT));
+        this.timeoutMillis = timeoutMillis;
+        this.heartbeatNanos = TimeUnit.MILLISECONDS.toNanos(heartbeatMillis);
+        this.maxSubscribers = maxSubscribers;
+        this.resyncBackoffNanos = TimeUnit.MILLISECONDS.toNanos(resyncBackoffMillis);
+        this.maxResyncBackoffNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(resyncBackoffMillis, maxResyncBackoffMillis));
+        this.dispatcher = Thread.ofVirtual().name("sse-dispatch").start(this::dispatch);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onJobChanged(JobChangedEvent event) {
+        switch (event.getType()) {
+            case CREATED -> {
+                publish("job-created", toSummary(event.getJob()));
+                publish("activity", DashboardStatsResponse.RecentActivity.builder()
+                        .message(String.format("New job posted: %s at %s",
+                                event.getJob().getTitle(), event.getJob().getCompany()))
+                        .time("just now")
+                        .type("job")
+                        .build());
+            }
+            case UPDATED -> publish("job-updated", toSummary(event.getJob()));
+            case DELETED -> publish("job-deleted", Map.of("id", event.getJobId()));
+        }
+    }
+
+    /**
+     * Open a stream for a new client, or null when the subscriber limit is reached
+     *
+     * @param lastEventId the Last-Event-ID header of a reconnect, or null
+     */
+    public SseEmitter subscribe(String lastEventId) {
+        if (!reserveSlot()) {
+            return null;
+        }
+        try {
+            SseEmitter emitter = new SseEmitter(timeoutMillis);
+            Subscriber subscriber = new Subscriber(emitter);
+            long resumeAt = resumePosition(lastEventId);
+            subscribers.add(subscriber);
+
+            emitter.onCompletion(subscriber::close);
+            emitter.onTimeout(subscriber::close);
+            emitter.onError(ex -> subscriber.close());
+            subscriber.thread = Thread.ofVirtual()
+                    .name("sse-" + subscriberIds.incrementAndGet())
+                    .start(() -> subscriber.run(resumeAt));
+            return emitter;
+        } catch (RuntimeException ex) {
+            slots.decrementAndGet();
+            throw ex;
+        }
+    }
+
+    public int subscriberCount() {
+        return slots.get();
+    }
+
+    // Check and increment as one step, so concurrent subscribes cannot overshoot the limit
+    private boolean reserveSlot() {
+        int current;
+        do {
+            current = slots.get();
+            if (current >= maxSubscribers) {
+                return false;
+            }
+        } while (!slots.compareAndSet(current, current + 1));
+        return true;
+    }
+
+    /**
+     * Open connections, and how many lagging subscribers were resynced or dropped
+     */
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("referralnode.stream.subscribers", this, JobEventBroadcaster::subscriberCount)
+                .description("Open /api/jobs/stream connections")
+                .register(registry);
+        FunctionCounter.builder("referralnode.stream.lagged", resyncs, LongAdder::sum)
+                .tag("action", "resync")
+                .description("Subscribers that fell a whole buffer behind")
+                .register(registry);
+        FunctionCounter.builder("referralnode.stream.lagged", drops, LongAdder::sum)
+                .tag("action", "drop")
+                .description("Subscribers that fell a whole buffer behind")
+                .register(registry);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        running = false;
+        LockSupport.unpark(dispatcher);
+        subscribers.forEach(subscriber -> subscriber.emitter.complete());
+    }
+
+    private void publish(String name, Object payload) {
+        String data;
+        try {
+            data = objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException ex) {
+            log.warn("Failed to serialize {} stream event", name, ex);
+            return;
+        }
+        ring.publish(name, data);
+        LockSupport.unpark(dispatcher);
+    }
+
+    // Wakes the subscriber threads once per batch of new events, off the publishing thread
+    private void dispatch() {
+        long seen = 0;
+        while (running) {
+            long head = ring.head();
+            if (head == seen) {
+                LockSupport.park(this);
+                continue;
+            }
+            seen = head;
+            for (Subscriber subscriber : subscribers) {
+                LockSupport.unpark(subscriber.thread);
+            }
+        }
+    }
+
+    // First sequence to send; 0 means "resync, then start after the newest event"
+    private long resumePosition(String lastEventId) {
+        long next = ring.head() + 1;
+        if (lastEventId == null || lastEventId.isBlank()) {
+            return next;
+        }
+        String[] parts = lastEventId.trim().split("-", 2);
+        if (parts.length != 2 || !parts[0].equals(epoch)) {
+            return 0;
+        }
+        try {
+            long resume = Long.parseLong(parts[1]) + 1;
+            return resume <= next && ring.isRetained(resume) ? resume : 0;
+        } catch (NumberFormatException ex) {
+            return 0;
+        }
+    }
+
+    private JobSummary toSummary(Job job) {
+        return JobSummary.builder()
+                .id(job.getId())
+                .title(job.getTitle())
+                .company(job.getCompany())
+                .location(job.getLocation())
+                .salaryRange(job.getSalaryRange())
+                .postedAt(job.getPostedAt())
+                .sourceUrl(job.getSourceUrl())
+                .tags(job.getTags())
+                .createdAt(job.getCreatedAt())
+                .updatedAt(job.getUpdatedAt())
+                .descriptionPreview(job.getDescriptionPreview())
+                .build();
+    }
+
+    private final class Subscriber {
+
+        private final SseEmitter emitter;
+        private volatile Thread thread;
+        private volatile boolean closed;
+
+        // Only touched by the subscriber's own thread
+        private long backoffNanos;
+        private long lastResyncAt;
+
+        Subscriber(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+
+        void run(long start) {
+            try {
+                long next = start;
+                if (next == 0) {
+                    next = resync("resume");
+                }
+                long lastWrite = System.nanoTime();
+                while (!closed && running) {
+                    JobEventRing.Event event = ring.get(next);
+                    if (event == JobEventRing.LAGGED) {
+                        if (lagPolicy == LagPolicy.DROP) {
+                            drops.increment();
+                            emitter.complete();
+                            return;
+                        }
+                        // Still inside the backoff: keep waiting, the one resync after it covers everything missed
+                        long wait = lastResyncAt + backoffNanos - System.nanoTime();
+                        if (backoffNanos > 0 && wait > 0) {
+                            if (System.nanoTime() - lastWrite >= heartbeatNanos) {
+                                emitter.send(SseEmitter.event().comment("heartbeat"));
+                                lastWrite = System.nanoTime();
+                            }
+                            LockSupport.parkNanos(this, Math.min(wait, heartbeatNanos));
+                            continue;
+                        }
+                        resyncs.increment();
+                        next = resync("lagged");
+                    } else if (event != null) {
+                        emitter.send(SseEmitter.event()
+                                .id(epoch + "-" + event.sequence())
+                                .name(event.name())
+                                .data(event.data()));
+                        next++;
+                    } else if (System.nanoTime() - lastWrite >= heartbeatNanos) {
+                        // Keeps proxies from closing an idle stream and detects clients that went away
+                        emitter.send(SseEmitter.event().comment("heartbeat"));
+                    } else {
+                        LockSupport.parkNanos(this, heartbeatNanos);
+                        continue;
+                    }
+                    lastWrite = System.nanoTime();
+                }
+            } catch (IOException | IllegalStateException ex) {
+                // The client disconnected or the emitter already completed
+                log.debug("Stream subscriber closed: {}", ex.getMessage());
+            } finally {
+                subscribers.remove(this);
+                slots.decrementAndGet();
+            }
+        }
+
+        // Tell the client to reload its view; the stream continues from the newest event
+        private long resync(String reason) throws IOException {
+            long now = System.nanoTime();
+            // Back off harder while resyncs keep coming; start over after twice the backoff without one
+            backoffNanos = backoffNanos == 0 || now - lastResyncAt > 2 * backoffNanos
+                    ? resyncBackoffNanos
+                    : Math.min(backoffNanos * 2, maxResyncBackoffNanos);
+            lastResyncAt = now;
+            long head = ring.head();
+            emitter.send(SseEmitter.event()
+                    .id(epoch + "-" + head)
+                    .name("resync")
+                    .data("{\"reason\":\"" + reason + "\"}"));
+            return head + 1;
+        }
+
+        void close() {
+            closed = true;
+            Thread current = thread;
+            if (current != null) {
+                LockSupport.unpark(current);
+            }
+        }
+    }
+}
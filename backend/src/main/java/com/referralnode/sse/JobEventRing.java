@@ -0,0 +1,72 @@
+package com.referralnode.sse;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Fixed-size, lock-free ring of serialized events, numbered by a global sequence starting at 1.
+ * <p>
+ * Publishers claim a sequence with one atomic increment and store the event in its slot, so
+ * any number of threads can publish and none of them ever waits for a reader. Each reader keeps
+ * its own position; an event stays readable until the ring wraps past it, after which a reader
+ * still asking for it is told it has {@link #LAGGED lagged}.
+ */
+final class JobEventRing {
+
+    /**
+     * A published event; data is the JSON payload
+     */
+    record Event(long sequence, String name, String data) {
+    }
+
+    /**
+     * Returned by {@link #get} for an event that has already been overwritten
+     */
+    static final Event LAGGED = new Event(-1, "lagged", null);
+
+    private final AtomicReferenceArray<Event> slots;
+    private final int mask;
+    private final AtomicLong claimed = new AtomicLong();
+
+    JobEventRing(int capacity) {
+        // Power of two, so the slot is a mask rather than a division
+        int size = Integer.highestOneBit(Math.max(2, capacity - 1)) << 1;
+        this.slots = new AtomicReferenceArray<>(size);
+        this.mask = size - 1;
+    }
+
+    long publish(String name, String data) {
+        long sequence = claimed.incrementAndGet();
+        slots.set((int) (sequence & mask), new Event(sequence, name, data));
+        return sequence;
+    }
+
+    /**
+     * Highest sequence claimed so far; its event may still be in the middle of being stored
+     */
+    long head() {
+        return claimed.get();
+    }
+
+    int capacity() {
+        return mask + 1;
+    }
+
+    /**
+     * The event with this sequence, null if it is not stored yet, or {@link #LAGGED}
+     */
+    Event get(long sequence) {
+        Event event = slots.get((int) (sequence & mask));
+        if (event == null || event.sequence() < sequence) {
+            return null;
+        }
+        return event.sequence() == sequence ? event : LAGGED;
+    }
+
+    /**
+     * Whether a reader whose next event is this sequence can still resume without a gap
+     */
+    boolean isRetained(long sequence) {
+        return sequence > head() - capacity();
+    }
+}
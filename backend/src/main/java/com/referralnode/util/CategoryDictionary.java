@@ -0,0 +1,147 @@
+package com.referralnode.util;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Bidirectional dictionary for the categorical values of jobs: tags, companies and locations.
+ * A few hundred distinct values repeat across every job, so each one gets a dense int id.
+ * <p>
+ * Long-lived per-job structures (the search and facet indexes) each own one, store the ids and
+ * {@link #decode} them when a value is needed. Ids are assigned on first sight and never reused,
+ * so a dictionary only grows; it is dropped with the index that owns it on the next rebuild,
+ * which bounds it by the values of the indexed jobs plus those written since. Lookups of request
+ * input use {@link #find}, which never adds entries. Decoding is lock-free; only a new value
+ * takes the lock.
+ * <p>
+ * Separately, loaded and mapped jobs carry canonical String instances ({@link #canonical}), so a
+ * large result set holds one copy of "Remote" rather than one per row. Company and location are
+ * free text, so that pool is a size-bounded cache: a value that falls out of it is still correct,
+ * it just stops being shared.
+ */
+public final class CategoryDictionary {
+
+    /**
+     * Id of null, and the result of {@link #find} for a value that was never encoded
+     */
+    public static final int NONE = -1;
+
+    // Well above the distinct tags, companies and locations of a realistic jobs table
+    private static final int MAX_CANONICAL = 65_536;
+
+    private static final Cache<String, String> CANONICAL = Caffeine.newBuilder()
+            .maximumSize(MAX_CANONICAL)
+            .build();
+
+    private final Map<String, Integer> ids = new ConcurrentHashMap<>();
+    private final ReentrantLock appendLock = new ReentrantLock();
+
+    // id -> value; replaced on growth, written before the id is published in ids
+    private volatile String[] values = new String[1024];
+    private int size;
+
+    /**
+     * Id of the value, assigning the next one if it is new
+     */
+    public int encode(String value) {
+        if (value == null) {
+            return NONE;
+        }
+        Integer id = ids.get(value);
+        return id != null ? id : append(value);
+    }
+
+    /**
+     * Id of the value, or {@link #NONE} if it was never encoded
+     */
+    public int find(String value) {
+        if (value == null) {
+            return NONE;
+        }
+        Integer id = ids.get(value);
+        return id != null ? id : NONE;
+    }
+
+    /**
+     * Canonical instance of an id; null for {@link #NONE}
+     */
+    public String decode(int id) {
+        return id == NONE ? null : values[id];
+    }
+
+    /**
+     * The shared instance equal to the value
+     */
+    public static String canonical(String value) {
+        return value == null ? null : CANONICAL.get(value, key -> key);
+    }
+
+    /**
+     * A copy of the list with every element replaced by its shared instance
+     */
+    public static List<String> canonicalAll(List<String> values) {
+        if (values == null) {
+            return null;
+        }
+        List<String> canonical = new ArrayList<>(values.size());
+        for (String value : values) {
+            canonical.add(canonical(value));
+        }
+        return canonical;
+    }
+
+    /**
+     * Sorted, distinct ids of the values, for binary search
+     */
+    public int[] encodeAll(Collection<String> values) {
+        if (values == null) {
+            return new int[0];
+        }
+        return values.stream()
+                .mapToInt(this::encode)
+                .filter(id -> id != NONE)
+                .sorted()
+                .distinct()
+                .toArray();
+    }
+
+    public int size() {
+        return ids.size();
+    }
+
+    /**
+     * Number of canonical instances currently pooled
+     */
+    public static long canonicalCount() {
+        return CANONICAL.estimatedSize();
+    }
+
+    private int append(String value) {
+        appendLock.lock();
+        try {
+            Integer existing = ids.get(value);
+            if (existing != null) {
+                return existing;
+            }
+            String[] current = values;
+            if (size == current.length) {
+                current = Arrays.copyOf(current, size * 2);
+            }
+            int id = size++;
+            current[id] = value;
+            values = current;
+            ids.put(value, id);
+            return id;
+        } finally {
+            appendLock.unlock();
+        }
+    }
+}
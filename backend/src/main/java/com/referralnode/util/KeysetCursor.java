@@ -0,0 +1,46 @@
+package com.referralnode.util;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Position in a keyset-paginated listing: the sort key and id of the last row
+ * returned. Serialized as an opaque URL-safe token.
+ */
+public record KeysetCursor(String sortBy, boolean ascending, LocalDateTime value, UUID id) {
+
+    // Timestamp columns backed by a (column, id) composite index
+    public static final Set<String> SORTABLE = Set.of("postedAt", "createdAt");
+
+    public KeysetCursor {
+        if (!SORTABLE.contains(sortBy)) {
+            throw new IllegalArgumentException("Cursor pagination supports sortBy " + SORTABLE + ", got: " + sortBy);
+        }
+        // Cursor listings skip rows without a sort value, so a position always has both
+        if (value == null || id == null) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+    }
+
+    public String encode() {
+        String raw = sortBy + "|" + (ascending ? "A" : "D") + "|" + value + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static KeysetCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", -1);
+            if (parts.length != 4) {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+            return new KeysetCursor(parts[0], "A".equals(parts[1]),
+                    LocalDateTime.parse(parts[2]), UUID.fromString(parts[3]));
+        } catch (RuntimeException ex) {
+            throw new IllegalArgumentException("Invalid cursor", ex);
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.referralnode.util;
+
+/**
+ * Result of a single scan over rich text HTML: validity, sanitized HTML and plain text.
+ * Computed once per input by {@link RichTextUtil} and shared by the validator,
+ * mapper and search indexing.
+ */
+public final class RichTextDocument {
+
+    private final boolean valid;
+    private final String sanitized;
+    private final String plainText;
+
+    RichTextDocument(boolean valid, String sanitized, String plainText) {
+        this.valid = valid;
+        this.sanitized = sanitized;
+        this.plainText = plainText;
+    }
+
+    /**
+     * false if the input contained script or style tags, javascript: URLs or inline event handlers
+     */
+    public boolean isValid() {
+        return valid;
+    }
+
+    public String getSanitized() {
+        return sanitized;
+    }
+
+    public String getPlainText() {
+        return plainText;
+    }
+
+    public String getPreview(int maxLength) {
+        if (plainText.length() <= maxLength) {
+            return plainText;
+        }
+        return plainText.substring(0, maxLength) + "...";
+    }
+}
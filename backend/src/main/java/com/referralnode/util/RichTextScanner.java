@@ -0,0 +1,384 @@
+package com.referralnode.util;
+
+/**
+ * Single-pass tokenizer for Quill HTML.
+ * <p>
+ * One left-to-right traversal validates the input, writes the sanitized HTML and
+ * the plain text side by side, without regexes or intermediate copies:
+ * <ul>
+ *   <li>script, style and iframe elements are dropped with their content</li>
+ *   <li>on* event handler attributes are dropped from every tag</li>
+ *   <li>tags end where a browser ends them: a quote only opens a value right after '='</li>
+ *   <li>"javascript:" is removed wherever it appears</li>
+ *   <li>plain text skips tags, decodes the common entities once and collapses whitespace</li>
+ * </ul>
+ */
+final class RichTextScanner {
+
+    private static final String JAVASCRIPT = "javascript:";
+
+    // Tag tokenizer states between the tag name and '>'
+    private static final int BEFORE_NAME = 0;
+    private static final int NAME = 1;
+    private static final int AFTER_NAME = 2;
+    private static final int BEFORE_VALUE = 3;
+    private static final int UNQUOTED_VALUE = 4;
+
+    private final String html;
+    private final int length;
+    private final StringBuilder sanitized;
+    private final StringBuilder plain;
+
+    private boolean valid = true;
+    private boolean pendingSpace;
+    private int pos;
+
+    private RichTextScanner(String html) {
+        this.html = html;
+        this.length = html.length();
+        this.sanitized = new StringBuilder(length);
+        this.plain = new StringBuilder(length);
+    }
+
+    static RichTextDocument scan(String html) {
+        RichTextScanner scanner = new RichTextScanner(html);
+        scanner.run();
+        return new RichTextDocument(scanner.valid, scanner.sanitized.toString().trim(), scanner.plain.toString());
+    }
+
+    private void run() {
+        while (pos < length) {
+            char c = html.charAt(pos);
+            if (c == '<' && startsTag(pos + 1)) {
+                tag();
+            } else if ((c == 'j' || c == 'J') && matches(pos, JAVASCRIPT)) {
+                valid = false;
+                pos += JAVASCRIPT.length();
+            } else {
+                if ((c == 'o' || c == 'O') && (matches(pos, "onerror=") || matches(pos, "onclick="))) {
+                    valid = false;
+                }
+                sanitized.append(c);
+                if (c == '&') {
+                    entity();
+                    continue;
+                }
+                text(c);
+                pos++;
+            }
+        }
+    }
+
+    // A '<' only opens a tag when followed by a name, a closing slash, a comment or a declaration
+    private boolean startsTag(int at) {
+        if (at >= length) {
+            return false;
+        }
+        char c = html.charAt(at);
+        return Character.isLetter(c) || c == '/' || c == '!' || c == '?';
+    }
+
+    private void tag() {
+        int start = pos;
+        int end = findTagEnd(start + 1);
+        // Rejected however the tag is tokenized, so a parsing gap cannot turn into a bypass
+        inspect(start, end < 0 ? length : end);
+        if (end < 0) {
+            // Unterminated tag: keep the rest as text, with the '<' escaped so no later markup can close it
+            sanitized.append("&lt;");
+            appendWithoutJavascript(start + 1, length);
+            while (pos < length) {
+                text(html.charAt(pos++));
+            }
+            return;
+        }
+
+        boolean closing = html.charAt(start + 1) == '/';
+        int nameStart = closing ? start + 2 : start + 1;
+        int nameEnd = nameStart;
+        while (nameEnd < end && isNameChar(html.charAt(nameEnd))) {
+            nameEnd++;
+        }
+
+        if (nameEquals(nameStart, nameEnd, "script")) {
+            skipElement("script", closing, end);
+            return;
+        }
+        if (nameEquals(nameStart, nameEnd, "style")) {
+            skipElement("style", closing, end);
+            return;
+        }
+        if (nameEquals(nameStart, nameEnd, "iframe")) {
+            skipElement("iframe", closing, end);
+            return;
+        }
+
+        sanitized.append(html, start, nameEnd);
+        attributes(nameEnd, end);
+        sanitized.append('>');
+        pos = end + 1;
+    }
+
+    // Drop an opening tag, its content and its closing tag (or everything to the end if unclosed)
+    private void skipElement(String name, boolean closing, int tagEnd) {
+        pos = tagEnd + 1;
+        if (closing) {
+            return;
+        }
+        int close = indexOfIgnoreCase("</" + name, pos);
+        if (close < 0) {
+            pos = length;
+            return;
+        }
+        int closeEnd = findTagEnd(close + 1);
+        pos = closeEnd < 0 ? length : closeEnd + 1;
+    }
+
+    // Copy attributes between the tag name and '>', dropping event handlers and javascript: URLs
+    private void attributes(int from, int end) {
+        int i = from;
+        while (i < end) {
+            int spaceStart = i;
+            while (i < end && isSpace(html.charAt(i))) {
+                i++;
+            }
+            if (i >= end) {
+                sanitized.append(html, spaceStart, end);
+                return;
+            }
+            if (html.charAt(i) == '/') {
+                sanitized.append(html, spaceStart, i + 1);
+                i++;
+                continue;
+            }
+
+            // A leading '=' belongs to the name, as in the HTML tokenizer
+            int nameStart = i++;
+            while (i < end && !isSpace(html.charAt(i)) && html.charAt(i) != '=' && html.charAt(i) != '/') {
+                i++;
+            }
+            int nameEnd = i;
+
+            int valueStart = -1;
+            int valueEnd = -1;
+            int j = i;
+            while (j < end && isSpace(html.charAt(j))) {
+                j++;
+            }
+            if (j < end && html.charAt(j) == '=') {
+                j++;
+                while (j < end && isSpace(html.charAt(j))) {
+                    j++;
+                }
+                if (j < end && (html.charAt(j) == '"' || html.charAt(j) == '\'')) {
+                    char quote = html.charAt(j);
+                    valueStart = j + 1;
+                    valueEnd = html.indexOf(quote, valueStart);
+                    if (valueEnd < 0 || valueEnd > end) {
+                        valueEnd = end;
+                    }
+                    i = Math.min(valueEnd + 1, end);
+                } else {
+                    valueStart = j;
+                    while (j < end && !isSpace(html.charAt(j))) {
+                        j++;
+                    }
+                    valueEnd = j;
+                    i = j;
+                }
+            }
+
+            if (nameEnd - nameStart > 2 && html.regionMatches(true, nameStart, "on", 0, 2)) {
+                valid = false;
+                continue;
+            }
+
+            if (valueStart < 0) {
+                sanitized.append(html, spaceStart, nameEnd);
+            } else {
+                sanitized.append(html, spaceStart, valueStart);
+                appendWithoutJavascript(valueStart, valueEnd);
+                sanitized.append(html, valueEnd, i);
+            }
+        }
+    }
+
+    private void appendWithoutJavascript(int from, int to) {
+        int i = from;
+        while (i < to) {
+            if (to - i >= JAVASCRIPT.length() && matches(i, JAVASCRIPT)) {
+                valid = false;
+                i += JAVASCRIPT.length();
+            } else {
+                sanitized.append(html.charAt(i++));
+            }
+        }
+    }
+
+    /**
+     * Position of the '>' closing a tag, following the HTML tokenizer: a quote opens a quoted
+     * value only right after '=' (and optional whitespace); anywhere else, including inside an
+     * unquoted value, it is an ordinary character and a '>' after it still ends the tag
+     */
+    private int findTagEnd(int from) {
+        int i = from;
+        while (i < length && html.charAt(i) != '>' && !isSpace(html.charAt(i)) && html.charAt(i) != '/') {
+            i++;
+        }
+        int state = BEFORE_NAME;
+        for (; i < length; i++) {
+            char c = html.charAt(i);
+            if (c == '>') {
+                return i;
+            }
+            switch (state) {
+                case BEFORE_NAME -> {
+                    if (!isSpace(c) && c != '/') {
+                        state = NAME;
+                    }
+                }
+                case NAME -> {
+                    if (isSpace(c)) {
+                        state = AFTER_NAME;
+                    } else if (c == '/') {
+                        state = BEFORE_NAME;
+                    } else if (c == '=') {
+                        state = BEFORE_VALUE;
+                    }
+                }
+                case AFTER_NAME -> {
+                    if (c == '=') {
+                        state = BEFORE_VALUE;
+                    } else if (c == '/') {
+                        state = BEFORE_NAME;
+                    } else if (!isSpace(c)) {
+                        state = NAME;
+                    }
+                }
+                case BEFORE_VALUE -> {
+                    if (c == '"' || c == '\'') {
+                        int close = html.indexOf(c, i + 1);
+                        if (close < 0) {
+                            return -1;
+                        }
+                        i = close;
+                        state = BEFORE_NAME;
+                    } else if (!isSpace(c)) {
+                        state = UNQUOTED_VALUE;
+                    }
+                }
+                default -> {
+                    if (isSpace(c)) {
+                        state = BEFORE_NAME;
+                    }
+                }
+            }
+        }
+        return -1;
+    }
+
+    // Script and style tags, on*= handlers and javascript: anywhere in a tag's source (quoted values included)
+    private void inspect(int from, int to) {
+        for (int i = from; i < to; i++) {
+            char c = html.charAt(i);
+            if (c == '<' && (matches(i + 1, "script") || matches(i + 1, "style"))) {
+                valid = false;
+            } else if ((c == 'j' || c == 'J') && to - i >= JAVASCRIPT.length() && matches(i, JAVASCRIPT)) {
+                valid = false;
+            } else if ((c == 'o' || c == 'O') && !Character.isLetterOrDigit(html.charAt(i - 1))
+                    && isEventHandler(i)) {
+                valid = false;
+            }
+        }
+    }
+
+    // "on" plus a name, then optional whitespace and '='
+    private boolean isEventHandler(int at) {
+        if (!matches(at, "on")) {
+            return false;
+        }
+        int i = at + 2;
+        while (i < length && Character.isLetter(html.charAt(i))) {
+            i++;
+        }
+        if (i == at + 2) {
+            return false;
+        }
+        while (i < length && isSpace(html.charAt(i))) {
+            i++;
+        }
+        return i < length && html.charAt(i) == '=';
+    }
+
+    private void entity() {
+        String decoded = null;
+        int consumed = 0;
+        if (matches(pos, "&nbsp;")) {
+            decoded = " ";
+            consumed = 6;
+        } else if (matches(pos, "&amp;")) {
+            decoded = "&";
+            consumed = 5;
+        } else if (matches(pos, "&lt;")) {
+            decoded = "<";
+            consumed = 4;
+        } else if (matches(pos, "&gt;")) {
+            decoded = ">";
+            consumed = 4;
+        } else if (matches(pos, "&quot;")) {
+            decoded = "\"";
+            consumed = 6;
+        } else if (matches(pos, "&#39;")) {
+            decoded = "'";
+            consumed = 5;
+        }
+
+        if (decoded == null) {
+            text('&');
+            pos++;
+            return;
+        }
+        sanitized.append(html, pos + 1, pos + consumed);
+        text(decoded.charAt(0));
+        pos += consumed;
+    }
+
+    // Append to plain text, collapsing whitespace runs and trimming both ends
+    private void text(char c) {
+        if (isSpace(c)) {
+            pendingSpace = !plain.isEmpty();
+            return;
+        }
+        if (pendingSpace) {
+            plain.append(' ');
+            pendingSpace = false;
+        }
+        plain.append(c);
+    }
+
+    private boolean matches(int at, String token) {
+        return html.regionMatches(true, at, token, 0, token.length());
+    }
+
+    private boolean nameEquals(int from, int to, String name) {
+        return to - from == name.length() && html.regionMatches(true, from, name, 0, name.length());
+    }
+
+    private int indexOfIgnoreCase(String token, int from) {
+        for (int i = from, last = length - token.length(); i <= last; i++) {
+            if (html.charAt(i) == '<' && matches(i, token)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static boolean isNameChar(char c) {
+        return Character.isLetterOrDigit(c) || c == '-' || c == '!' || c == '?';
+    }
+
+    // Same set as the regex \s
+    private static boolean isSpace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+}
@@ -1,43 +1,53 @@
 package com.referralnode.util;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import org.springframework.stereotype.Component;
 
-import java.util.regex.Pattern;
-
 /**
  * Utility class for handling rich text content (HTML from Quill editor)
+ * <p>
+ * All operations share one single-pass scan per input string. Results are
+ * memoized by string identity, so the validator, mapper and indexer working on
+ * the same request body scan it only once.
  */
 @Component
 public class RichTextUtil {
-    
-    // Basic HTML tags allowed from Quill editor
-    private static final Pattern ALLOWED_TAGS = Pattern.compile(
-        "</?(?:p|br|strong|em|u|s|h1|h2|h3|ol|ul|li|a|blockquote|pre|code)(?:\\s[^>]*)?>",
-        Pattern.CASE_INSENSITIVE
-    );
-    
+
+    private static final RichTextDocument EMPTY = new RichTextDocument(true, "", "");
+
+    // Weak identity keys: entries live only as long as the request/entity holding the string
+    private final Cache<String, RichTextDocument> documents = Caffeine.newBuilder()
+            .weakKeys()
+            .maximumSize(1024)
+            .build();
+
+    /**
+     * Scans the HTML once, producing validity, sanitized HTML and plain text
+     * @param html The HTML content
+     * @return Memoized scan result
+     */
+    public RichTextDocument process(String html) {
+        if (html == null || html.isEmpty()) {
+            return EMPTY;
+        }
+        return documents.get(html, RichTextScanner::scan);
+    }
+
     /**
      * Validates if the content is valid HTML from Quill editor
      * @param html The HTML content to validate
      * @return true if valid, false otherwise
      */
     public boolean isValidRichText(String html) {
-        if (html == null || html.trim().isEmpty()) {
+        if (html == null || html.isBlank()) {
             return true; // Empty is valid
         }
-        
-        // Check for potentially dangerous content
-        String lowerHtml = html.toLowerCase();
-        if (lowerHtml.contains("<script") || 
-            lowerHtml.contains("javascript:") || 
-            lowerHtml.contains("onerror=") ||
-            lowerHtml.contains("onclick=")) {
-            return false;
-        }
-        
-        return true;
+
+        // Rejects script and style tags, javascript: URLs and on* event handlers
+        return process(html).isValid();
     }
-    
+
     /**
      * Sanitizes HTML content by removing potentially dangerous elements
      * while preserving Quill editor formatting
@@ -45,20 +55,14 @@ public class RichTextUtil {
      * @return Sanitized HTML
      */
     public String sanitizeRichText(String html) {
-        if (html == null || html.trim().isEmpty()) {
+        if (html == null || html.isBlank()) {
             return html;
         }
-        
-        // Remove script tags and event handlers
-        String sanitized = html
-            .replaceAll("<script[^>]*>.*?</script>", "")
-            .replaceAll("(?i)on\\w+\\s*=\\s*[\"'][^\"']*[\"']", "")
-            .replaceAll("(?i)javascript:", "")
-            .replaceAll("(?i)<iframe[^>]*>.*?</iframe>", "");
-        
-        return sanitized.trim();
+
+        // Script/style/iframe elements, event handlers and javascript: URLs are dropped
+        return process(html).getSanitized();
     }
-    
+
     /**
      * Converts HTML to plain text by stripping all tags
      * Useful for search indexing or previews
@@ -66,22 +70,13 @@ public class RichTextUtil {
      * @return Plain text content
      */
     public String htmlToPlainText(String html) {
-        if (html == null || html.trim().isEmpty()) {
+        if (html == null || html.isBlank()) {
             return "";
         }
-        
-        return html
-            .replaceAll("<[^>]+>", "") // Remove all HTML tags
-            .replaceAll("&nbsp;", " ")
-            .replaceAll("&amp;", "&")
-            .replaceAll("&lt;", "<")
-            .replaceAll("&gt;", ">")
-            .replaceAll("&quot;", "\"")
-            .replaceAll("&#39;", "'")
-            .replaceAll("\\s+", " ") // Normalize whitespace
-            .trim();
+
+        return process(html).getPlainText();
     }
-    
+
     /**
      * Gets a preview/excerpt from HTML content
      * @param html The HTML content
@@ -89,15 +84,13 @@ public class RichTextUtil {
      * @return Preview text
      */
     public String getPreview(String html, int maxLength) {
-        String plainText = htmlToPlainText(html);
-        
-        if (plainText.length() <= maxLength) {
-            return plainText;
+        if (html == null || html.isBlank()) {
+            return "";
         }
-        
-        return plainText.substring(0, maxLength) + "...";
+
+        return process(html).getPreview(maxLength);
     }
-    
+
     /**
      * Checks if content is empty (no meaningful text after stripping HTML)
      * @param html The HTML content
@@ -107,8 +100,7 @@ public class RichTextUtil {
         if (html == null) {
             return true;
         }
-        
-        String plainText = htmlToPlainText(html);
-        return plainText.trim().isEmpty();
+
+        return htmlToPlainText(html).isEmpty();
     }
 }
@@ -0,0 +1,36 @@
+package com.referralnode.util;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Canonical form of job tags: trimmed, lowercase and without blanks or repeats.
+ * <p>
+ * Tags are stored in this form (see {@code JobMapper}) and filter values are
+ * normalized the same way, so tag filters compare with plain array equality and
+ * can use the GIN index on {@code jobs.tags}.
+ */
+public final class TagNormalizer {
+    
+    private TagNormalizer() {
+    }
+    
+    /**
+     * Normalized tags in their original order, or null for null input
+     */
+    public static List<String> normalize(List<String> tags) {
+        if (tags == null) {
+            return null;
+        }
+        Set<String> normalized = new LinkedHashSet<>();
+        for (String tag : tags) {
+            if (tag != null && !tag.isBlank()) {
+                normalized.add(tag.trim().toLowerCase(Locale.ROOT));
+            }
+        }
+        return new ArrayList<>(normalized);
+    }
+}
@@ -1,6 +1,9 @@
 -- Enable UUID extension
 CREATE EXTENSION IF NOT EXISTS "uuid-ossp";
 
+-- Trigram matching for substring filters (search.engine=postgres)
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
 -- USERS TABLE
 CREATE TABLE IF NOT EXISTS users (
     id UUID PRIMARY KEY DEFAULT uuid_generate_v4(),
@@ -19,11 +22,14 @@ CREATE TABLE IF NOT EXISTS jobs (
     company VARCHAR(255) NOT NULL,
     location VARCHAR(100),
     description TEXT NOT NULL,
+    description_preview VARCHAR(300),
     salary_range VARCHAR(100),
     posted_at TIMESTAMP WITH TIME ZONE NOT NULL,
     source_url TEXT NOT NULL,
+    content_hash VARCHAR(64),
     tags TEXT[],
-    created_at TIMESTAMP WITH TIME ZONE DEFAULT CURRENT_TIMESTAMP
+    created_at TIMESTAMP WITH TIME ZONE DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP WITH TIME ZONE
 );
 
 -- APPLICATIONS TABLE (Tracking)
@@ -39,4 +45,64 @@ CREATE TABLE IF NOT EXISTS applications (
 
 -- Indexing for performance
 CREATE INDEX IF NOT EXISTS idx_jobs_company ON jobs(company);
+-- Keyset pagination seeks on (sort column, id)
+CREATE INDEX IF NOT EXISTS idx_jobs_posted_at_id ON jobs(posted_at DESC, id DESC);
+CREATE INDEX IF NOT EXISTS idx_jobs_created_at_id ON jobs(created_at DESC, id DESC);
 CREATE INDEX IF NOT EXISTS idx_applications_user ON applications(user_id);
+
+-- Full-text search (search.engine=postgres)
+-- Weighted document over title, company and the tag-stripped description
+ALTER TABLE jobs ADD COLUMN IF NOT EXISTS search_vector tsvector
+    GENERATED ALWAYS AS (
+        setweight(to_tsvector('english', coalesce(title, '')), 'A') ||
+        setweight(to_tsvector('english', coalesce(company, '')), 'B') ||
+        setweight(to_tsvector('english', regexp_replace(coalesce(description, ''), '<[^>]+>', ' ', 'g')), 'C')
+    ) STORED;
+CREATE INDEX IF NOT EXISTS idx_jobs_search_vector ON jobs USING GIN (search_vector);
+
+-- Trigram indexes so ILIKE '%term%' filters avoid sequential scans
+CREATE INDEX IF NOT EXISTS idx_jobs_title_trgm ON jobs USING GIN (title gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_jobs_company_trgm ON jobs USING GIN (company gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_jobs_location_trgm ON jobs USING GIN (location gin_trgm_ops);
+
+-- Listing preview, written by the application; backfill rows created before the column existed
+ALTER TABLE jobs ADD COLUMN IF NOT EXISTS description_preview VARCHAR(300);
+UPDATE jobs
+SET description_preview = left(btrim(regexp_replace(regexp_replace(description, '<[^>]+>', '', 'g'), '\s+', ' ', 'g')), 200)
+WHERE description_preview IS NULL;
+
+-- Last-Modified for job details, set by the application on update; older tables lack the column
+ALTER TABLE jobs ADD COLUMN IF NOT EXISTS updated_at TIMESTAMP WITH TIME ZONE;
+
+-- Ingestion pipeline: resumable positions per source
+CREATE TABLE IF NOT EXISTS ingest_checkpoints (
+    source VARCHAR(100) PRIMARY KEY,
+    position TEXT NOT NULL,
+    updated_at TIMESTAMP WITH TIME ZONE NOT NULL
+);
+
+-- Deduplication: one row per source URL, and a content fingerprint (written by the application)
+ALTER TABLE jobs ADD COLUMN IF NOT EXISTS content_hash VARCHAR(64);
+-- Older rows may share a source URL; keep the oldest and make the others' URLs unique instead of deleting them
+UPDATE jobs j
+SET source_url = j.source_url || '#duplicate-' || j.id
+WHERE EXISTS (
+    SELECT 1 FROM jobs o
+    WHERE o.source_url = j.source_url
+      AND (COALESCE(o.created_at, '-infinity'), o.id) < (COALESCE(j.created_at, '-infinity'), j.id)
+);
+DROP INDEX IF EXISTS idx_jobs_source_url;
+CREATE UNIQUE INDEX IF NOT EXISTS uq_jobs_source_url ON jobs(source_url);
+CREATE INDEX IF NOT EXISTS idx_jobs_content_hash ON jobs(content_hash);
+
+-- Tag filters: && (any) and @> (all) on the lowercase tags written by JobMapper
+-- Lowercase older rows, dropping case-only repeats and keeping first-seen order
+UPDATE jobs
+SET tags = ARRAY(
+    SELECT lower(t.tag)
+    FROM unnest(tags) WITH ORDINALITY AS t(tag, ord)
+    GROUP BY lower(t.tag)
+    ORDER BY min(t.ord)
+)
+WHERE tags::text <> lower(tags::text);
+CREATE INDEX IF NOT EXISTS idx_jobs_tags ON jobs USING GIN (tags);
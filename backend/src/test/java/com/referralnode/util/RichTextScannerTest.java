@@ -0,0 +1,70 @@
+package com.referralnode.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RichTextScannerTest {
+
+    @Test
+    void quoteInsideUnquotedValueDoesNotHideScript() {
+        RichTextDocument document = RichTextScanner.scan("<p title=x'y><script>alert(1)</script>'</p>");
+
+        assertThat(document.isValid()).isFalse();
+        assertThat(document.getSanitized()).doesNotContainIgnoringCase("<script");
+        assertThat(document.getSanitized()).isEqualTo("<p title=x'y>'</p>");
+    }
+
+    @Test
+    void strayQuotesInUnquotedValuesAreText() {
+        RichTextDocument single = RichTextScanner.scan("<p title=it's>hello</p><p>world</p>");
+        RichTextDocument dbl = RichTextScanner.scan("<p title=x\"y>hi</p>");
+
+        assertThat(single.isValid()).isTrue();
+        assertThat(single.getSanitized()).isEqualTo("<p title=it's>hello</p><p>world</p>");
+        assertThat(single.getPlainText()).isEqualTo("helloworld");
+        assertThat(dbl.isValid()).isTrue();
+        assertThat(dbl.getSanitized()).isEqualTo("<p title=x\"y>hi</p>");
+        assertThat(dbl.getPlainText()).isEqualTo("hi");
+    }
+
+    @Test
+    void quotedValueAfterEqualsMayContainGreaterThan() {
+        RichTextDocument document = RichTextScanner.scan("<a href='x' title=\"a>b\">t</a>");
+
+        assertThat(document.isValid()).isTrue();
+        assertThat(document.getSanitized()).isEqualTo("<a href='x' title=\"a>b\">t</a>");
+        assertThat(document.getPlainText()).isEqualTo("t");
+    }
+
+    @Test
+    void scriptAndStyleAreRejectedInAnyTokenizerState() {
+        assertThat(RichTextScanner.scan("<p title=\"<script>\">x</p>").isValid()).isFalse();
+        assertThat(RichTextScanner.scan("<style>p{}</style><p>k</p>").isValid()).isFalse();
+        assertThat(RichTextScanner.scan("<style>p{}</style><p>k</p>").getSanitized()).isEqualTo("<p>k</p>");
+    }
+
+    @Test
+    void everyEventHandlerIsRejectedAndDropped() {
+        RichTextDocument document = RichTextScanner.scan("<p onmouseover=alert(1)>x</p>");
+
+        assertThat(document.isValid()).isFalse();
+        assertThat(document.getSanitized()).isEqualTo("<p>x</p>");
+        assertThat(RichTextScanner.scan("<p title='onload=x'>x</p>").isValid()).isFalse();
+    }
+
+    @Test
+    void unterminatedTagIsEscapedAndLosesJavascript() {
+        RichTextDocument document = RichTextScanner.scan("<p>x</p><a href=\"javascript:alert(1)\"");
+
+        assertThat(document.isValid()).isFalse();
+        assertThat(document.getSanitized()).doesNotContainIgnoringCase("javascript:");
+        assertThat(document.getSanitized()).isEqualTo("<p>x</p>&lt;a href=\"alert(1)\"");
+    }
+
+    @Test
+    void javascriptAnywhereInATagIsRejected() {
+        assertThat(RichTextScanner.scan("<a javascript:x>t</a>").isValid()).isFalse();
+        assertThat(RichTextScanner.scan("<a href='JavaScript:x'>t</a>").isValid()).isFalse();
+    }
+}
@@ -1,21 +1,38 @@
+import { decodeCbor } from './cbor';
+
 const API_BASE_URL = process.env.NEXT_PUBLIC_API_BASE_URL || 'http://localhost:8080';
 
+// NEXT_PUBLIC_API_FORMAT=cbor asks the backend for CBOR instead of JSON (smaller bodies, same fields)
+const ACCEPT = process.env.NEXT_PUBLIC_API_FORMAT === 'cbor'
+    ? 'application/cbor, application/json;q=0.9'
+    : 'application/json';
+
+async function readBody(response: Response) {
+    if (response.headers.get('Content-Type')?.startsWith('application/cbor')) {
+        return decodeCbor(new Uint8Array(await response.arrayBuffer()));
+    }
+    return response.json();
+}
+
 export const apiClient = {
     baseURL: API_BASE_URL,
 
     async request<T>(endpoint: string, options?: RequestInit): Promise<T> {
         const url = `${API_BASE_URL}${endpoint}`;
 
+        // Sends the backend's read-your-writes cookie back, so admin edits show up immediately
         const response = await fetch(url, {
+            credentials: 'include',
             ...options,
             headers: {
+                'Accept': ACCEPT,
                 'Content-Type': 'application/json',
                 ...options?.headers,
             },
         });
 
         if (!response.ok) {
-            const error = await response.json().catch(() => ({
+            const error = await readBody(response).catch(() => ({
                 message: 'An error occurred'
             }));
             throw new Error(error.message || `HTTP ${response.status}`);
@@ -26,6 +43,6 @@ export const apiClient = {
             return {} as T;
         }
 
-        return response.json();
+        return readBody(response);
     },
 };
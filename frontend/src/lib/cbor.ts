@@ -0,0 +1,104 @@
+/**
+ * Minimal CBOR (RFC 8949) decoder for API responses. It covers what Jackson's CBOR
+ * generator writes: maps, arrays, text, integers, floats, booleans and null, with
+ * definite or indefinite lengths. Tags are skipped and their content returned.
+ */
+const BREAK = Symbol('break');
+
+export function decodeCbor(bytes: Uint8Array): unknown {
+    const view = new DataView(bytes.buffer, bytes.byteOffset, bytes.byteLength);
+    const text = new TextDecoder();
+    let offset = 0;
+
+    function length(info: number): number {
+        if (info < 24) return info;
+        switch (info) {
+            case 24: offset += 1; return view.getUint8(offset - 1);
+            case 25: offset += 2; return view.getUint16(offset - 2);
+            case 26: offset += 4; return view.getUint32(offset - 4);
+            case 27: offset += 8; return Number(view.getBigUint64(offset - 8));
+            case 31: return -1;
+            default: throw new Error(`Invalid CBOR length ${info} at ${offset}`);
+        }
+    }
+
+    function chunks(major: number, size: number): Uint8Array {
+        if (size >= 0) {
+            offset += size;
+            return bytes.subarray(offset - size, offset);
+        }
+        // Indefinite-length string: definite-length chunks of the same type up to a break
+        const parts: Uint8Array[] = [];
+        while (bytes[offset] !== 0xff) {
+            const head = bytes[offset++];
+            if (head >> 5 !== major) throw new Error(`Invalid CBOR string chunk at ${offset}`);
+            parts.push(chunks(major, length(head & 0x1f)));
+        }
+        offset++;
+        const joined = new Uint8Array(parts.reduce((total, part) => total + part.length, 0));
+        let position = 0;
+        for (const part of parts) {
+            joined.set(part, position);
+            position += part.length;
+        }
+        return joined;
+    }
+
+    function half(bits: number): number {
+        const exponent = (bits >> 10) & 0x1f;
+        const fraction = bits & 0x3ff;
+        const sign = bits & 0x8000 ? -1 : 1;
+        if (exponent === 0) return sign * fraction * 2 ** -24;
+        if (exponent === 31) return fraction ? NaN : sign * Infinity;
+        return sign * (1024 + fraction) * 2 ** (exponent - 25);
+    }
+
+    function item(): unknown {
+        const head = bytes[offset++];
+        const major = head >> 5;
+        const info = head & 0x1f;
+
+        if (major === 7) {
+            switch (info) {
+                case 20: return false;
+                case 21: return true;
+                case 22: return null;
+                case 23: return undefined;
+                case 25: offset += 2; return half(view.getUint16(offset - 2));
+                case 26: offset += 4; return view.getFloat32(offset - 4);
+                case 27: offset += 8; return view.getFloat64(offset - 8);
+                case 31: return BREAK;
+                default: return info < 24 ? info : view.getUint8(offset++);
+            }
+        }
+
+        const size = length(info);
+        switch (major) {
+            case 0: return size;
+            case 1: return -1 - size;
+            case 2: return chunks(2, size);
+            case 3: return text.decode(chunks(3, size));
+            case 4: {
+                const array: unknown[] = [];
+                for (let i = 0; size < 0 || i < size; i++) {
+                    const value = item();
+                    if (value === BREAK) break;
+                    array.push(value);
+                }
+                return array;
+            }
+            case 5: {
+                const map: Record<string, unknown> = {};
+                for (let i = 0; size < 0 || i < size; i++) {
+                    const key = item();
+                    if (key === BREAK) break;
+                    map[String(key)] = item();
+                }
+                return map;
+            }
+            default: return item();
+        }
+    }
+
+    return item();
+}
@@ -56,6 +56,7 @@ export const jobService = {
     async deleteJob(id: string): Promise<void> {
         await fetch(`${apiClient.baseURL}/api/admin/jobs/${id}`, {
             method: 'DELETE',
+            credentials: 'include',
         });
     },
 };